@@ -0,0 +1,58 @@
+package io.meeting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// binary calendars against the JSON path, encoded sizes are printed at setup
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int meetingsPerDay;
+
+    Calendar calendar;
+    String json;
+    ByteBuffer encoded;
+    ByteBuffer output;
+
+    @Setup
+    public void setUp() {
+        calendar = CalendarGenerator.calendar(new Random(1), meetingsPerDay);
+        json = CalendarGenerator.toJson(calendar);
+        encoded = ByteBuffer.wrap(CalendarCodec.encode(calendar));
+        output = ByteBuffer.allocate(CalendarCodec.maxEncodedSize(calendar));
+        System.out.printf("%n%d meetings: JSON %d bytes, binary %d bytes%n", meetingsPerDay,
+                json.getBytes(StandardCharsets.UTF_8).length, encoded.remaining());
+    }
+
+    @Benchmark
+    public Calendar decodeJson() {
+        return Calendar.parseJson(json);
+    }
+
+    @Benchmark
+    public Calendar decodeBinary() {
+        return CalendarCodec.decode(encoded.duplicate());
+    }
+
+    @Benchmark
+    public String encodeJson() {
+        return CalendarGenerator.toJson(calendar);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBinary() {
+        output.clear();
+        CalendarCodec.encode(calendar, output);
+        return output;
+    }
+}
@@ -0,0 +1,42 @@
+package io.meeting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int meetingsPerDay;
+
+    String json;
+    byte[] jsonBytes;
+
+    @Setup
+    public void setUp() {
+        json = CalendarGenerator.toJson(CalendarGenerator.calendar(new Random(1), meetingsPerDay));
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Calendar parseJson() {
+        return Calendar.parseJson(json);
+    }
+
+    @Benchmark
+    public Calendar readFromStream() throws IOException {
+        try (CalendarReader reader = CalendarReader.of(new ByteArrayInputStream(jsonBytes))) {
+            return reader.next();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.meeting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// a day of one on ones for a team, placed as a batch or by proposing and booking the first proposal every time,
+// calendars get the placed meetings, so both start from fresh calendars on every invocation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlanBenchmark {
+
+    @Param({"20", "200"})
+    int people;
+
+    @Param({"100", "1000"})
+    int meetings;
+
+    List<MeetingRequest> requests;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        Random random = new Random(4);
+        List<Calendar> staff = CalendarGenerator.realisticCalendars(random, people, CalendarGenerator.Profile.SPARSE);
+        requests = new ArrayList<>(meetings);
+        for (int meeting = 0; meeting < meetings; meeting++) {
+            requests.add(new MeetingRequest(List.of(staff.get(random.nextInt(people)),
+                    staff.get(random.nextInt(people))), 30));
+        }
+    }
+
+    @Benchmark
+    public MeetingPlanner.Plan plan() {
+        return MeetingPlanner.plan(requests);
+    }
+
+    @Benchmark
+    public int proposeAndBook() {
+        int placed = 0;
+        for (MeetingRequest request : requests) {
+            List<Period> proposals = request.proposePossibleMeetings();
+            if (!proposals.isEmpty()) {
+                int start = IntervalBuffer.toMinutes(proposals.get(0).getStartTime());
+                for (Calendar attendee : request.getCalendars()) {
+                    attendee.addMeeting(start, start + request.getMeetingLength());
+                }
+                placed++;
+            }
+        }
+        return placed;
+    }
+}
@@ -0,0 +1,76 @@
+package io.meeting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// warm solves reuse the cached free time of unchanged calendars, cold ones start from new calendars
+// or from a calendar that changed since the last solve
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProposeBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int meetingsPerDay;
+
+    @Param({"15", "30", "60"})
+    int meetingLength;
+
+    Calendar calendarOne;
+    Calendar calendarTwo;
+    List<Period> availableOne;
+    List<Period> availableTwo;
+    IntervalBuffer meetingsOne;
+    IntervalBuffer meetingsTwo;
+    Calendar changingOne;
+    boolean booked;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(3);
+        calendarOne = CalendarGenerator.calendar(random, meetingsPerDay);
+        calendarTwo = CalendarGenerator.calendar(random, meetingsPerDay);
+        availableOne = calendarOne.getUnoccupiedPeriods();
+        availableTwo = calendarTwo.getUnoccupiedPeriods();
+        meetingsOne = calendarOne.getScheduledMeetingMinutes();
+        meetingsTwo = calendarTwo.getScheduledMeetingMinutes();
+        changingOne = new Calendar(calendarOne.getWorkStart(), calendarOne.getWorkEnd(), meetingsOne);
+    }
+
+    @Benchmark
+    public List<Period> proposeMeetingTime() {
+        return Period.proposeMeetingTime(availableOne, availableTwo, meetingLength);
+    }
+
+    @Benchmark
+    public List<Period> proposePossibleMeetings() {
+        return calendarOne.proposePossibleMeetings(calendarTwo, meetingLength);
+    }
+
+    // includes copying and sorting the meetings into both new calendars
+    @Benchmark
+    public List<Period> proposePossibleMeetingsOfNewCalendars() {
+        Calendar one = new Calendar(calendarOne.getWorkStart(), calendarOne.getWorkEnd(), meetingsOne);
+        Calendar two = new Calendar(calendarTwo.getWorkStart(), calendarTwo.getWorkEnd(), meetingsTwo);
+        return one.proposePossibleMeetings(two, meetingLength);
+    }
+
+    // includes booking or cancelling one meeting, the free time of the changed calendar is read again every time
+    @Benchmark
+    public List<Period> proposePossibleMeetingsAfterChange() {
+        int start = changingOne.getWorkStart();
+        if (booked) {
+            changingOne.cancelMeeting(start, start + 15);
+        } else {
+            changingOne.addMeeting(start, start + 15);
+        }
+        booked = !booked;
+        return changingOne.proposePossibleMeetings(calendarTwo, meetingLength);
+    }
+}
@@ -0,0 +1,43 @@
+package io.meeting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// attendees times meetings per day covers busy lists from a few dozen up to 100,000 meetings per solve
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProposeForAttendeesBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int meetingsPerDay;
+
+    @Param({"2", "12", "100"})
+    int attendees;
+
+    @Param({"30"})
+    int meetingLength;
+
+    @Param({"INTERVALS", "BITMAP"})
+    String backendName;
+
+    SolverBackend backend;
+    List<Calendar> calendars;
+
+    @Setup
+    public void setUp() {
+        backend = SolverBackend.valueOf(backendName);
+        calendars = CalendarGenerator.calendars(new Random(4), attendees, meetingsPerDay);
+    }
+
+    @Benchmark
+    public List<Period> proposePossibleMeetings() {
+        return Calendar.proposePossibleMeetings(calendars, meetingLength, backend);
+    }
+}
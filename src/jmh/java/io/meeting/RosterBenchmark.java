@@ -0,0 +1,70 @@
+package io.meeting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// who of the people is free for an hour, from the roster index or by checking every meeting of every person
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RosterBenchmark {
+
+    @Param({"500", "5000"})
+    int people;
+
+    Map<String, Calendar> calendars;
+    RosterIndex roster;
+    Period window;
+
+    @Setup
+    public void setUp() {
+        calendars = new LinkedHashMap<>();
+        Random random = new Random(4);
+        for (int person = 0; person < people; person++) {
+            calendars.put("person" + person, CalendarGenerator.realistic(random, CalendarGenerator.Profile.TYPICAL));
+        }
+        roster = new RosterIndex(calendars);
+        window = new Period("14:00", "15:00");
+    }
+
+    @TearDown
+    public void tearDown() {
+        roster.close();
+    }
+
+    @Benchmark
+    public List<String> rosterIndex() {
+        return roster.whoIsFree(window);
+    }
+
+    @Benchmark
+    public int rosterIndexCount() {
+        return roster.countFree(window);
+    }
+
+    @Benchmark
+    public List<String> scanMeetings() {
+        List<String> free = new ArrayList<>();
+        for (Map.Entry<String, Calendar> person : calendars.entrySet()) {
+            Calendar calendar = person.getValue();
+            boolean busy = window.getStartTime().isBefore(calendar.getWorkStartTime())
+                    || window.getEndTime().isAfter(calendar.getWorkEndTime());
+            for (Period meeting : calendar.getScheduledMeetings()) {
+                busy |= window.checkIfPeriodsOverlap(meeting);
+            }
+            if (!busy) {
+                free.add(person.getKey());
+            }
+        }
+        return free;
+    }
+}
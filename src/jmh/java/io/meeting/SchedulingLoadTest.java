@@ -0,0 +1,92 @@
+package io.meeting;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// closed loop load test of a running scheduling service, a fixed number of requests is kept in flight
+// for the whole duration, bodies are seeded calendars of a few attendees with a busy day each,
+// the same bodies are sent again and again, so against a service with the cache on only the first round is solved,
+// serve with the cache off to measure parsing and solving
+// usage: SchedulingLoadTest [url] [concurrency] [seconds]
+final class SchedulingLoadTest {
+
+    private static final int BODIES = 256;
+    private static final int MAX_SAMPLES = 1 << 22;
+
+    private SchedulingLoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080" + SchedulingServer.MEETINGS_PATH);
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        List<HttpRequest> requests = requests(uri, new Random(42));
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicInteger samples = new AtomicInteger();
+        AtomicLong failed = new AtomicLong();
+        long[] latencies = new long[MAX_SAMPLES];
+
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(seconds);
+        for (int sent = 0; System.nanoTime() < endNanos; sent++) {
+            inFlight.acquire();
+            long sentNanos = System.nanoTime();
+            client.sendAsync(requests.get(sent % BODIES), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() != 200) {
+                            failed.incrementAndGet();
+                        }
+                        int sample = samples.getAndIncrement();
+                        if (sample < MAX_SAMPLES) {
+                            latencies[sample] = System.nanoTime() - sentNanos;
+                        }
+                        inFlight.release();
+                    });
+        }
+        inFlight.acquire(concurrency);
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        int completed = samples.get();
+        long[] sorted = Arrays.copyOf(latencies, Math.min(completed, MAX_SAMPLES));
+        Arrays.sort(sorted);
+        System.out.printf("%d requests (%d failed) in %.1f s, %.0f requests/s%n", completed, failed.get(),
+                elapsedNanos / 1e9, completed * 1e9 / elapsedNanos);
+        System.out.printf("latency p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms%n",
+                percentile(sorted, 0.5), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                percentile(sorted, 1.0));
+    }
+
+    private static List<HttpRequest> requests(URI uri, Random random) {
+        List<HttpRequest> requests = new ArrayList<>(BODIES);
+        for (int index = 0; index < BODIES; index++) {
+            List<Calendar> calendars = CalendarGenerator.calendars(random, 2 + random.nextInt(7), 12);
+            String body = CalendarGenerator.toRequestJson(calendars, 30);
+            requests.add(HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+        }
+        return requests;
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,71 @@
+package io.meeting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// every solver path on the office days SolverEquivalenceTest checks them on, the oracle is the baseline
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolverPathsBenchmark {
+
+    @Param({"TYPICAL", "FRAGMENTED", "PACKED", "RAW_FEED", "SPARSE"})
+    String profileName;
+
+    @Param({"4", "40"})
+    int attendees;
+
+    @Param({"30"})
+    int meetingLength;
+
+    List<Calendar> calendars;
+    List<List<Period>> availableLists;
+    ForkJoinSolver forkJoinSolver;
+    GroupAvailability group;
+
+    @Setup
+    public void setUp() {
+        calendars = CalendarGenerator.realisticCalendars(new Random(4), attendees,
+                CalendarGenerator.Profile.named(profileName));
+        availableLists = calendars.stream().map(Calendar::getUnoccupiedPeriods).collect(Collectors.toList());
+        forkJoinSolver = ForkJoinSolver.onCommonPool();
+        group = new GroupAvailability("group", calendars);
+    }
+
+    @Benchmark
+    public List<Period> bruteForceOracle() {
+        return BruteForceOracle.proposePossibleMeetings(calendars, meetingLength);
+    }
+
+    @Benchmark
+    public List<Period> intervals() {
+        return Calendar.proposePossibleMeetings(calendars, meetingLength);
+    }
+
+    @Benchmark
+    public List<Period> listsOfFreePeriods() {
+        return Period.proposeMeetingTime(availableLists, meetingLength);
+    }
+
+    @Benchmark
+    public List<Period> forkJoin() {
+        return forkJoinSolver.proposePossibleMeetings(calendars, meetingLength);
+    }
+
+    @Benchmark
+    public List<Period> stream() {
+        return Calendar.streamPossibleMeetings(calendars, meetingLength).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Period> group() {
+        return group.proposePossibleMeetings(meetingLength);
+    }
+}
@@ -0,0 +1,57 @@
+package io.meeting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// warm reads the cached free time of an unchanged calendar, cold reads it from a new calendar
+// or from one that changed since the last read, which is what the first solve after a booking pays
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnoccupiedPeriodsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int meetingsPerDay;
+
+    Calendar calendar;
+    IntervalBuffer meetings;
+    Calendar changing;
+    boolean booked;
+
+    @Setup
+    public void setUp() {
+        calendar = CalendarGenerator.calendar(new Random(2), meetingsPerDay);
+        meetings = calendar.getScheduledMeetingMinutes();
+        changing = CalendarGenerator.calendar(new Random(2), meetingsPerDay);
+    }
+
+    @Benchmark
+    public List<Period> getUnoccupiedPeriods() {
+        return calendar.getUnoccupiedPeriods();
+    }
+
+    // includes copying and sorting the meetings into the new calendar
+    @Benchmark
+    public List<Period> getUnoccupiedPeriodsOfNewCalendar() {
+        return new Calendar(calendar.getWorkStart(), calendar.getWorkEnd(), meetings).getUnoccupiedPeriods();
+    }
+
+    // includes booking or cancelling one meeting, every read sees a new version
+    @Benchmark
+    public List<Period> getUnoccupiedPeriodsAfterChange() {
+        int start = changing.getWorkStart();
+        if (booked) {
+            changing.cancelMeeting(start, start + 15);
+        } else {
+            changing.addMeeting(start, start + 15);
+        }
+        booked = !booked;
+        return changing.getUnoccupiedPeriods();
+    }
+}
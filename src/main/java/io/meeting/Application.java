@@ -1,9 +1,23 @@
 package io.meeting;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 public class Application {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            runBatch(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--serve")) {
+            runServer(args);
+            return;
+        }
+
         String jsonCalendarOne = "{" +
     "                               \"working_hours\": {" +
     "                                  \"start\": \"09:00\"," +
@@ -68,4 +82,30 @@ public class Application {
         System.out.println("\nList of time to schedule meetings with length 45: " +
                 exampleCalendar.proposePossibleMeetings(secondExampleCalendar, 45));
     }
+
+    // --batch requests.ndjson [proposals.ndjson], results go to standard output when no output file is given
+    private static void runBatch(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: --batch <requests.ndjson> [<proposals.ndjson>]");
+            return;
+        }
+        try (InputStream input = Files.newInputStream(Path.of(args[1]));
+             OutputStream output = new BufferedOutputStream(args.length > 2 ?
+                     Files.newOutputStream(Path.of(args[2])) : System.out, 1 << 16)) {
+            BatchSolver.Summary summary = BatchSolver.onAllCores().solve(input, output);
+            System.err.println(summary);
+        }
+    }
+
+    // --serve [port] [cache spec], runs until the process is stopped, repeated requests are answered from a cache,
+    // a spec of "off" solves every request
+    private static void runServer(String[] args) throws IOException {
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+        String cacheSpec = args.length > 2 ? args[2] : ProposalCache.DEFAULT_SPEC;
+        ProposalCache cache = cacheSpec.equals("off") ? null : new ProposalCache(cacheSpec);
+        SchedulingServer server = SchedulingServer.start(port, cache);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        System.err.println("Serving meeting requests on http://localhost:" + server.getPort() +
+                SchedulingServer.MEETINGS_PATH);
+    }
 }
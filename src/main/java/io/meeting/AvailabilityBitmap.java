@@ -0,0 +1,117 @@
+package io.meeting;
+
+import java.util.Arrays;
+
+// free time of a day on the 5 minute grid used for rounding, one bit per slot, 288 slots fit in 5 longs,
+// a slot is free only when the whole slot is inside working hours and no meeting touches it
+final class AvailabilityBitmap {
+
+    static final int SLOT_MINUTES = Intervals.ROUNDING_MINUTES;
+    static final int SLOTS = 24 * 60 / SLOT_MINUTES;
+    static final int WORDS = (SLOTS + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] words = new long[WORDS];
+
+    static AvailabilityBitmap of(Calendar calendar) {
+        AvailabilityBitmap bitmap = new AvailabilityBitmap();
+        bitmap.fill(calendar);
+        return bitmap;
+    }
+
+    void fill(Calendar calendar) {
+        Arrays.fill(words, 0L);
+        setRange(ceilSlot(calendar.getWorkStart()), floorSlot(calendar.getWorkEnd()));
+
+        IntervalBuffer meetings = calendar.getScheduledMeetingMinutes();
+        for (int index = 0; index < meetings.size(); index++) {
+            clearRange(floorSlot(meetings.start(index)), ceilSlot(meetings.end(index)));
+        }
+    }
+
+    void and(AvailabilityBitmap second) {
+        for (int word = 0; word < WORDS; word++) {
+            words[word] &= second.words[word];
+        }
+    }
+
+    boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isFree(int slot) {
+        return (words[slot >>> 6] & (1L << slot)) != 0L;
+    }
+
+    // runs of at least minimal number of free slots, skips whole words of busy or free slots at once
+    void findFreeRuns(int meetingLength, IntervalBuffer possibleMeetings) {
+        int minimalSlots = Math.max(1, (meetingLength + SLOT_MINUTES - 1) / SLOT_MINUTES);
+        int slot = nextSlot(0, true);
+
+        while (slot < SLOTS) {
+            int runEnd = nextSlot(slot, false);
+            if (runEnd - slot >= minimalSlots) {
+                possibleMeetings.add(slot * SLOT_MINUTES, runEnd * SLOT_MINUTES);
+            }
+            slot = nextSlot(runEnd, true);
+        }
+    }
+
+    // first slot from the given one with the wanted state, SLOTS when there is none
+    private int nextSlot(int from, boolean free) {
+        if (from >= SLOTS) {
+            return SLOTS;
+        }
+        int word = from >>> 6;
+        long bits = (free ? words[word] : ~words[word]) & (-1L << from);
+
+        while (bits == 0L) {
+            if (++word == WORDS) {
+                return SLOTS;
+            }
+            bits = free ? words[word] : ~words[word];
+        }
+        return Math.min(SLOTS, word * Long.SIZE + Long.numberOfTrailingZeros(bits));
+    }
+
+    private void setRange(int fromSlot, int toSlot) {
+        forEachWordInRange(fromSlot, toSlot, true);
+    }
+
+    private void clearRange(int fromSlot, int toSlot) {
+        forEachWordInRange(fromSlot, toSlot, false);
+    }
+
+    private void forEachWordInRange(int fromSlot, int toSlot, boolean set) {
+        fromSlot = Math.max(0, fromSlot);
+        toSlot = Math.min(SLOTS, toSlot);
+        if (fromSlot >= toSlot) {
+            return;
+        }
+        int firstWord = fromSlot >>> 6;
+        int lastWord = (toSlot - 1) >>> 6;
+
+        for (int word = firstWord; word <= lastWord; word++) {
+            long mask = -1L;
+            if (word == firstWord) {
+                mask &= -1L << fromSlot;
+            }
+            if (word == lastWord) {
+                mask &= -1L >>> (Long.SIZE - 1 - ((toSlot - 1) & 63));
+            }
+            words[word] = set ? words[word] | mask : words[word] & ~mask;
+        }
+    }
+
+    private static int ceilSlot(int minutes) {
+        return (minutes + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    }
+
+    private static int floorSlot(int minutes) {
+        return minutes / SLOT_MINUTES;
+    }
+}
@@ -0,0 +1,157 @@
+package io.meeting;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// solves a newline delimited stream of meeting requests on all cores, lines are read in chunks,
+// every chunk is solved by one task and results are written back in input order, one line per input line,
+// so line N of the output answers line N of the input, a blank line is answered with an error,
+// only a bounded number of chunks is in flight, so memory does not grow with the input size
+final class BatchSolver {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final int threads;
+    private final int chunkSize;
+
+    BatchSolver(int threads, int chunkSize) {
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    static BatchSolver onAllCores() {
+        return new BatchSolver(Runtime.getRuntime().availableProcessors(), 512);
+    }
+
+    Summary solve(InputStream input, OutputStream output) throws IOException {
+        long startNanos = System.nanoTime();
+        long requests = 0;
+        long failed = 0;
+
+        // the streams belong to the caller, so they are flushed but not closed
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        ArrayDeque<Future<ChunkResult>> inFlight = new ArrayDeque<>();
+        try {
+            List<String> chunk = readChunk(reader);
+            while (!chunk.isEmpty() || !inFlight.isEmpty()) {
+                if (!chunk.isEmpty()) {
+                    List<String> lines = chunk;
+                    inFlight.add(executor.submit(() -> solveChunk(lines)));
+                    chunk = readChunk(reader);
+                }
+                if (inFlight.size() > threads * 2 || (chunk.isEmpty() && !inFlight.isEmpty())) {
+                    ChunkResult result = await(inFlight.poll());
+                    writer.write(result.output);
+                    requests += result.requests;
+                    failed += result.failed;
+                }
+            }
+            writer.flush();
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Summary(requests, failed, System.nanoTime() - startNanos);
+    }
+
+    private List<String> readChunk(BufferedReader reader) throws IOException {
+        List<String> lines = new ArrayList<>(chunkSize);
+        String line;
+        while (lines.size() < chunkSize && (line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static ChunkResult solveChunk(List<String> lines) {
+        StringBuilder output = new StringBuilder(lines.size() * 64);
+        int failed = 0;
+
+        for (String line : lines) {
+            if (line.isBlank()) {
+                output.append("{\"error\": \"Empty request\"}\n");
+                failed++;
+                continue;
+            }
+            try {
+                output.append(MeetingRequest.parseJson(line).proposePossibleMeetings());
+            } catch (IOException e) {
+                output.append("{\"error\": \"Incorrect JSON format\"}");
+                failed++;
+            } catch (RuntimeException e) {
+                output.append("{\"error\": \"Request could not be solved\"}");
+                failed++;
+            }
+            output.append('\n');
+        }
+        return new ChunkResult(output.toString(), lines.size(), failed);
+    }
+
+    private static ChunkResult await(Future<ChunkResult> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch solving interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Batch solving failed", e.getCause());
+        }
+    }
+
+    private static final class ChunkResult {
+        private final String output;
+        private final int requests;
+        private final int failed;
+
+        private ChunkResult(String output, int requests, int failed) {
+            this.output = output;
+            this.requests = requests;
+            this.failed = failed;
+        }
+    }
+
+    static final class Summary {
+        private final long requests;
+        private final long failed;
+        private final long elapsedNanos;
+
+        Summary(long requests, long failed, long elapsedNanos) {
+            this.requests = requests;
+            this.failed = failed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        long getRequests() {
+            return requests;
+        }
+
+        long getFailed() {
+            return failed;
+        }
+
+        double getRequestsPerSecond() {
+            return elapsedNanos == 0 ? 0 : requests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Solved %d requests (%d failed) in %.3f s, %.0f requests/s",
+                    requests, failed, elapsedNanos / 1_000_000_000.0, getRequestsPerSecond());
+        }
+    }
+}
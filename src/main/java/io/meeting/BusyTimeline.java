@@ -0,0 +1,239 @@
+package io.meeting;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// meetings of one calendar kept in ordered trees, so adding or cancelling a meeting updates free time
+// in O(log n + k), where k is the number of boundaries inside the changed meeting, instead of rebuilding it,
+// coverage is a step function from time to the number of meetings running from that time to the next key,
+// free periods are the parts of working hours where coverage is zero, kept as start -> end
+final class BusyTimeline {
+
+    private final int workStart;
+    private final int workEnd;
+
+    // start << 32 | end -> how many times this exact meeting is scheduled
+    private final TreeMap<Long, Integer> meetings = new TreeMap<>();
+    private final TreeMap<Integer, Integer> coverage = new TreeMap<>();
+    private final TreeMap<Integer, Integer> freePeriods = new TreeMap<>();
+
+    private int meetingCount;
+
+    BusyTimeline(int workStart, int workEnd) {
+        this.workStart = workStart;
+        this.workEnd = workEnd;
+        if (workStart < workEnd) {
+            freePeriods.put(workStart, workEnd);
+        }
+    }
+
+    // builds the trees from meetings sorted by start in one sweep over a day wide difference array,
+    // adding them one by one updates every coverage step a meeting spans, which gets quadratic when raw feeds
+    // are full of duplicates and overlaps, here every entry of every tree is put once, in key order,
+    // so the build is O(n log n), repeated meetings are next to each other in the sorted input,
+    // meetings outside the day fall back to adding them one by one
+    static BusyTimeline of(int workStart, int workEnd, IntervalBuffer sortedMeetings) {
+        BusyTimeline timeline = new BusyTimeline(workStart, workEnd);
+        int lastMinute = IntervalBuffer.MINUTES_PER_DAY;
+        if (workStart < 0 || workEnd > lastMinute || !sortedMeetings.isWithinDay()) {
+            for (int index = 0; index < sortedMeetings.size(); index++) {
+                timeline.add(sortedMeetings.start(index), sortedMeetings.end(index));
+            }
+            return timeline;
+        }
+
+        int[] coverageChange = new int[lastMinute + 1];
+        int copies = 0;
+        for (int index = 0; index < sortedMeetings.size(); index++) {
+            long meeting = sortedMeetings.packed(index);
+            copies++;
+            if (index + 1 == sortedMeetings.size() || sortedMeetings.packed(index + 1) != meeting) {
+                timeline.meetings.put(meeting, copies);
+                copies = 0;
+            }
+            int start = sortedMeetings.start(index);
+            int end = sortedMeetings.end(index);
+            if (start < end) {
+                coverageChange[start]++;
+                coverageChange[end]--;
+            }
+        }
+        timeline.meetingCount = sortedMeetings.size();
+
+        timeline.freePeriods.clear();
+        int value = 0;
+        int freeStart = -1;
+        for (int minute = 0; minute <= lastMinute; minute++) {
+            if (coverageChange[minute] != 0) {
+                value += coverageChange[minute];
+                timeline.coverage.put(minute, value);
+            }
+            if (minute >= workStart && minute < workEnd) {
+                if (value == 0 && freeStart < 0) {
+                    freeStart = minute;
+                } else if (value > 0 && freeStart >= 0) {
+                    timeline.freePeriods.put(freeStart, minute);
+                    freeStart = -1;
+                }
+            }
+        }
+        if (freeStart >= 0) {
+            timeline.freePeriods.put(freeStart, workEnd);
+        }
+        return timeline;
+    }
+
+    int getMeetingCount() {
+        return meetingCount;
+    }
+
+    int getFreePeriodCount() {
+        return freePeriods.size();
+    }
+
+    void add(int start, int end) {
+        meetings.merge(pack(start, end), 1, Integer::sum);
+        meetingCount++;
+        if (start >= end) {
+            return;
+        }
+        changeCoverage(start, end, 1);
+        occupy(Math.max(start, workStart), Math.min(end, workEnd));
+    }
+
+    boolean remove(int start, int end) {
+        Long key = pack(start, end);
+        Integer count = meetings.get(key);
+        if (count == null) {
+            return false;
+        }
+        if (count == 1) {
+            meetings.remove(key);
+        } else {
+            meetings.put(key, count - 1);
+        }
+        meetingCount--;
+        if (start < end) {
+            changeCoverage(start, end, -1);
+            release(Math.max(start, workStart), Math.min(end, workEnd));
+        }
+        return true;
+    }
+
+    void fillScheduledMeetings(IntervalBuffer scheduledMeetings) {
+        for (Map.Entry<Long, Integer> meeting : meetings.entrySet()) {
+            long packed = meeting.getKey();
+            for (int copy = 0; copy < meeting.getValue(); copy++) {
+                scheduledMeetings.add((int) (packed >>> 32), (int) packed);
+            }
+        }
+    }
+
+    void fillUnoccupiedPeriods(IntervalBuffer unoccupiedPeriods) {
+        for (Map.Entry<Integer, Integer> period : freePeriods.entrySet()) {
+            unoccupiedPeriods.add(period.getKey(), period.getValue());
+        }
+    }
+
+    private void changeCoverage(int start, int end, int change) {
+        coverage.putIfAbsent(start, coverageAt(start));
+        coverage.putIfAbsent(end, coverageAt(end));
+        for (Map.Entry<Integer, Integer> step : coverage.subMap(start, true, end, false).entrySet()) {
+            step.setValue(step.getValue() + change);
+        }
+        removeIfRedundant(start);
+        removeIfRedundant(end);
+    }
+
+    private int coverageAt(int time) {
+        Map.Entry<Integer, Integer> step = coverage.floorEntry(time);
+        return step == null ? 0 : step.getValue();
+    }
+
+    // a key that does not change the coverage of the step before it carries no information
+    private void removeIfRedundant(int time) {
+        Integer value = coverage.get(time);
+        if (value == null) {
+            return;
+        }
+        Map.Entry<Integer, Integer> previous = coverage.lowerEntry(time);
+        int previousValue = previous == null ? 0 : previous.getValue();
+        if (value == previousValue) {
+            coverage.remove(time);
+        }
+    }
+
+    // cuts [start, end] out of the free periods it overlaps
+    private void occupy(int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        Map.Entry<Integer, Integer> first = freePeriods.floorEntry(start);
+        if (first != null && first.getValue() > start) {
+            freePeriods.remove(first.getKey());
+            if (first.getKey() < start) {
+                freePeriods.put(first.getKey(), start);
+            }
+            if (first.getValue() > end) {
+                freePeriods.put(end, first.getValue());
+                return;
+            }
+        }
+
+        Iterator<Map.Entry<Integer, Integer>> inside = freePeriods.subMap(start, false, end, false)
+                .entrySet().iterator();
+        int lastEnd = -1;
+        while (inside.hasNext()) {
+            lastEnd = inside.next().getValue();
+            inside.remove();
+        }
+        if (lastEnd > end) {
+            freePeriods.put(end, lastEnd);
+        }
+    }
+
+    // adds back the parts of [start, end] that are no longer covered by any meeting
+    private void release(int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        int segmentStart = start;
+        int value = coverageAt(start);
+        NavigableMap<Integer, Integer> steps = coverage.subMap(start, false, end, false);
+
+        for (Map.Entry<Integer, Integer> step : steps.entrySet()) {
+            if (value == 0) {
+                addFreePeriod(segmentStart, step.getKey());
+            }
+            segmentStart = step.getKey();
+            value = step.getValue();
+        }
+        if (value == 0) {
+            addFreePeriod(segmentStart, end);
+        }
+    }
+
+    private void addFreePeriod(int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        Map.Entry<Integer, Integer> before = freePeriods.floorEntry(start);
+        if (before != null && before.getValue() >= start) {
+            start = before.getKey();
+            end = Math.max(end, before.getValue());
+            freePeriods.remove(before.getKey());
+        }
+        Integer afterEnd = freePeriods.get(end);
+        if (afterEnd != null) {
+            freePeriods.remove(end);
+            end = afterEnd;
+        }
+        freePeriods.put(start, end);
+    }
+
+    private static long pack(int start, int end) {
+        return ((long) start << 32) | (end & 0xFFFFFFFFL);
+    }
+}
@@ -3,47 +3,153 @@ package io.meeting;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 
+import java.io.IOException;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Calendar {
-    private final LocalTime workStartTime;
-    private final LocalTime workEndTime;
-
-    private final List<Period> scheduledMeetings;
-
-    private static final ObjectMapper mapper = new ObjectMapper();
+    private final int workStart;
+    private final int workEnd;
+
+    // meetings sorted by start as the calendar was created, free time is a scan of the gaps between them,
+    // most calendars are only read, so the ordered trees of the timeline are built on the first change,
+    // both are guarded by this calendar and the buffer is dropped once the timeline exists
+    private IntervalBuffer sortedMeetings;
+    private BusyTimeline timeline;
+    private volatile int version;
+    // run after every change with the calendar locked, so they must be quick and must not wait for other locks
+    private volatile List<Runnable> changeListeners = List.of();
+
+    // buffers read from the timeline for one version, shared by every solve until the meetings change
+    private volatile VersionedPeriods scheduledMeetings;
+    private volatile VersionedPeriods freeTime;
 
     @JsonCreator
     public Calendar(@JsonProperty("working_hours") Period workingHours,
                     @JsonProperty("planned_meeting") List<Period> scheduledMeetings
     ) {
-        this.workStartTime = workingHours.getStartTime();
-        this.workEndTime = workingHours.getEndTime();
+        this(IntervalBuffer.toMinutes(workingHours.getStartTime()),
+                IntervalBuffer.toMinutes(workingHours.getEndTime()),
+                IntervalBuffer.fromPeriods(scheduledMeetings));
+    }
 
-        this.scheduledMeetings = new ArrayList<>();
+    Calendar(int workStart, int workEnd, IntervalBuffer scheduledMeetings) {
+        this.workStart = workStart;
+        this.workEnd = workEnd;
 
-        this.scheduledMeetings.addAll(scheduledMeetings);
+        // raw feeds may repeat, overlap or leave working hours, the gap scan and the timeline clip and merge them,
+        // the meetings are copied, so the caller's buffer keeps its order
+        this.sortedMeetings = new IntervalBuffer(scheduledMeetings.size());
+        this.sortedMeetings.addAll(scheduledMeetings);
+        this.sortedMeetings.sortByStart();
+        SolverMetrics.countMeetings(scheduledMeetings.size());
     }
 
     LocalTime getWorkStartTime() {
-        return workStartTime;
+        return IntervalBuffer.toLocalTime(workStart);
     }
 
 
     LocalTime getWorkEndTime() {
-        return workEndTime;
+        return IntervalBuffer.toLocalTime(workEnd);
+    }
+
+    int getWorkStart() {
+        return workStart;
     }
 
+    int getWorkEnd() {
+        return workEnd;
+    }
 
     List<Period> getScheduledMeetings() {
-        return scheduledMeetings;
+        return getScheduledMeetingMinutes().toPeriods();
+    }
+
+    // sorted meetings of the current version, the returned buffer is shared and must not be modified
+    IntervalBuffer getScheduledMeetingMinutes() {
+        int currentVersion = version;
+        VersionedPeriods cached = scheduledMeetings;
+        if (cached != null && cached.version == currentVersion) {
+            return cached.periods;
+        }
+        synchronized (this) {
+            IntervalBuffer meetings = sortedMeetings;
+            if (timeline != null) {
+                meetings = new IntervalBuffer(timeline.getMeetingCount());
+                timeline.fillScheduledMeetings(meetings);
+            }
+            scheduledMeetings = new VersionedPeriods(version, meetings);
+            return meetings;
+        }
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    void addMeeting(Period meeting) {
+        addMeeting(IntervalBuffer.toMinutes(meeting.getStartTime()), IntervalBuffer.toMinutes(meeting.getEndTime()));
+    }
+
+    synchronized void addMeeting(int start, int end) {
+        timeline().add(start, end);
+        changed();
+    }
+
+    boolean cancelMeeting(Period meeting) {
+        return cancelMeeting(IntervalBuffer.toMinutes(meeting.getStartTime()),
+                IntervalBuffer.toMinutes(meeting.getEndTime()));
+    }
+
+    synchronized boolean cancelMeeting(int start, int end) {
+        if (!timeline().remove(start, end)) {
+            return false;
+        }
+        changed();
+        return true;
+    }
+
+    // indexes over many calendars learn which of them changed instead of checking the version of every one
+    synchronized void addChangeListener(Runnable listener) {
+        List<Runnable> listeners = new ArrayList<>(changeListeners);
+        listeners.add(listener);
+        changeListeners = List.copyOf(listeners);
+    }
+
+    // an index that is no longer used removes its listener, so the calendar stops keeping it reachable
+    synchronized void removeChangeListener(Runnable listener) {
+        List<Runnable> listeners = new ArrayList<>(changeListeners);
+        listeners.remove(listener);
+        changeListeners = List.copyOf(listeners);
+    }
+
+    private void changed() {
+        version++;
+        for (Runnable listener : changeListeners) {
+            listener.run();
+        }
+    }
+
+    // the meetings sorted at creation are already in start order, which the bulk build relies on
+    private BusyTimeline timeline() {
+        if (timeline == null) {
+            timeline = BusyTimeline.of(workStart, workEnd, sortedMeetings);
+            sortedMeetings = null;
+        }
+        return timeline;
     }
 
     // this method is created strictly to solve recruitment task, proposePossibleMeetings is more universal
@@ -71,82 +177,224 @@ public class Calendar {
     List<Period> proposePossibleMeetings(Calendar secondCalendar,
                                          int meetingLength) {
         if (this.checkWorkingTimeSynchronization(secondCalendar)) {
-            List<Period> availableOne = this.getUnoccupiedPeriods();
-            List<Period> availableTwo = secondCalendar.getUnoccupiedPeriods();
-            return Period.proposeMeetingTime(availableOne, availableTwo, meetingLength);
+            Intervals.Workspace workspace = Intervals.workspace();
+            workspace.clear();
+
+            Intervals.intersect(this.getUnoccupiedMinutes(), secondCalendar.getUnoccupiedMinutes(), meetingLength,
+                    workspace.jointPeriods);
+            Intervals.adjustToCommonMeetingHours(workspace.jointPeriods, meetingLength,
+                    workspace.possibleMeetings);
+            return workspace.possibleMeetings.toPeriods();
         }
         return List.of();
     }
 
 
-    private boolean checkWorkingTimeSynchronization(Calendar secondCalendar) {
-        return !(this.getWorkEndTime().isBefore(secondCalendar.getWorkStartTime()) ||
-                secondCalendar.getWorkEndTime().isBefore(this.getWorkStartTime()));
+    static List<Period> proposePossibleMeetings(Collection<Calendar> calendars,
+                                                int meetingLength) {
+        Intervals.Workspace workspace = Intervals.workspace();
+        workspace.clear();
+
+        IntervalBuffer[] availableLists = workspace.sharedLists(calendars.size());
+        int listCount = 0;
+        for (Calendar calendar : calendars) {
+            availableLists[listCount++] = calendar.getUnoccupiedMinutes();
+        }
+
+        Intervals.intersectAll(availableLists, listCount, meetingLength, workspace.jointPeriods);
+        workspace.releaseSharedLists(listCount);
+        Intervals.adjustToCommonMeetingHours(workspace.jointPeriods, meetingLength,
+                workspace.possibleMeetings);
+        return workspace.possibleMeetings.toPeriods();
     }
 
-    List<Period> getUnoccupiedPeriods() {
-        List<Period> unoccupiedPeriods = new ArrayList<>();
-        this.scheduledMeetings.sort(new Period.MyPeriodComparator());
-        if (this.scheduledMeetings == null) {
-            unoccupiedPeriods.add(new Period(this.getWorkStartTime(), this.getWorkEndTime()));
-        } else {
-
-            if (!this.workStartTime.equals(this.scheduledMeetings.get(0).getStartTime())) {
-                unoccupiedPeriods.add(this.getUnoccupiedPeriodBeforeFirstMeeting());
-            }
+    // the same proposals in time order, produced one by one straight from the sweep,
+    // so taking the first few costs only the part of the calendars that comes before them
+    static Stream<Period> streamPossibleMeetings(Collection<Calendar> calendars,
+                                                 int meetingLength) {
+        Iterator<Period> proposals = new PossibleMeetingIterator(calendars, meetingLength);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(proposals,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
 
-            if (!this.workEndTime.equals(this.scheduledMeetings.get(this.scheduledMeetings.size() - 1).
-                    getEndTime())) {
-                unoccupiedPeriods.add(this.getUnoccupiedPeriodAfterLastMeeting());
-            }
-            unoccupiedPeriods.addAll(getUnoccupiedPeriodsBetweenMeetingsDuringDay());
+    // at most count earliest proposals, the sweep stops as soon as they are found
+    static List<Period> proposeEarliestMeetings(Collection<Calendar> calendars,
+                                                int meetingLength,
+                                                int count) {
+        List<Period> earliest = new ArrayList<>(Math.min(count, 16));
+        Iterator<Period> proposals = new PossibleMeetingIterator(calendars, meetingLength);
+        while (earliest.size() < count && proposals.hasNext()) {
+            earliest.add(proposals.next());
         }
-        unoccupiedPeriods.sort(new Period.MyPeriodComparator());
-        return unoccupiedPeriods;
+        return earliest;
     }
 
-    private Period getUnoccupiedPeriodBeforeFirstMeeting() {
-        return new Period(this.workStartTime,
-                this.scheduledMeetings.get(0).getStartTime());
+    // start minutes on the grid where a meeting suits everybody, produced lazily in time order without boxing,
+    // so a client can page through all of them, see SlotGrid
+    static PrimitiveIterator.OfInt proposeMeetingStarts(Collection<Calendar> calendars,
+                                                        int meetingLength,
+                                                        SlotGrid grid,
+                                                        boolean stepByMeetingLength) {
+        return grid.starts(jointPeriodCursor(calendars, meetingLength), meetingLength, stepByMeetingLength);
     }
 
-    private Period getUnoccupiedPeriodAfterLastMeeting() {
-        return new Period(this.scheduledMeetings.get(this.scheduledMeetings.size() - 1).getEndTime(),
-                this.workEndTime);
+    static List<Period> proposePossibleMeetings(Collection<Calendar> calendars,
+                                                int meetingLength,
+                                                SolverBackend backend) {
+        if (backend == SolverBackend.BITMAP) {
+            return proposePossibleMeetingsOnBitmap(calendars, meetingLength);
+        }
+        return proposePossibleMeetings(calendars, meetingLength);
     }
 
-    private List<Period> getUnoccupiedPeriodsBetweenMeetingsDuringDay() {
+    private static List<Period> proposePossibleMeetingsOnBitmap(Collection<Calendar> calendars,
+                                                                int meetingLength) {
+        if (calendars.isEmpty()) {
+            return List.of();
+        }
+        AvailabilityBitmap freeForAll = null;
+        AvailabilityBitmap freeForOne = new AvailabilityBitmap();
+
+        for (Calendar calendar : calendars) {
+            if (freeForAll == null) {
+                freeForAll = AvailabilityBitmap.of(calendar);
+            } else {
+                freeForOne.fill(calendar);
+                freeForAll.and(freeForOne);
+            }
+            if (freeForAll.isEmpty()) {
+                return List.of();
+            }
+        }
 
-        List<Period> unoccupiedPeriods = new ArrayList<>();
+        IntervalBuffer possibleMeetings = Intervals.workspace().possibleMeetings;
+        possibleMeetings.clear();
+        freeForAll.findFreeRuns(meetingLength, possibleMeetings);
+        return possibleMeetings.toPeriods();
+    }
 
-        for (int index = 0; index < this.scheduledMeetings.size(); index++) {
-            if (index + 1 < this.scheduledMeetings.size()) {
-                if (!this.scheduledMeetings.get(index).getEndTime().
-                        equals(this.scheduledMeetings.get(index + 1).getStartTime())) {
+    private boolean checkWorkingTimeSynchronization(Calendar secondCalendar) {
+        return !(this.workEnd < secondCalendar.workStart || secondCalendar.workEnd < this.workStart);
+    }
 
-                    LocalTime unoccupiedPeriodStart = this.scheduledMeetings.get(index).getEndTime();
-                    LocalTime unoccupiedPeriodEnd = this.scheduledMeetings.get(index + 1).getStartTime();
+    List<Period> getUnoccupiedPeriods() {
+        return getUnoccupiedMinutes().toPeriods();
+    }
 
-                    unoccupiedPeriods.add(new Period(unoccupiedPeriodStart, unoccupiedPeriodEnd));
-                }
+    // cached free periods of the current meetings, the returned buffer is shared and must not be modified
+    IntervalBuffer getUnoccupiedMinutes() {
+        int currentVersion = version;
+        VersionedPeriods cached = freeTime;
+        if (cached != null && cached.version == currentVersion) {
+            return cached.periods;
+        }
+        synchronized (this) {
+            long startNanos = SolverMetrics.startTimer();
+            IntervalBuffer unoccupiedPeriods;
+            if (timeline == null) {
+                unoccupiedPeriods = new IntervalBuffer(sortedMeetings.size() + 1);
+                fillGaps(sortedMeetings, unoccupiedPeriods);
+            } else {
+                unoccupiedPeriods = new IntervalBuffer(timeline.getFreePeriodCount());
+                timeline.fillUnoccupiedPeriods(unoccupiedPeriods);
             }
+            freeTime = new VersionedPeriods(version, unoccupiedPeriods);
+            SolverMetrics.stopTimer(SolverMetrics.Phase.UNOCCUPIED_PERIODS, startNanos);
+            SolverMetrics.countFreePeriods(unoccupiedPeriods.size());
+            return unoccupiedPeriods;
+        }
+    }
+
+    // parts of working hours not covered by any meeting, in one pass over meetings sorted by start,
+    // the covered part grows to the furthest end seen, so overlapping and repeated meetings merge
+    private void fillGaps(IntervalBuffer meetings, IntervalBuffer unoccupiedPeriods) {
+        int freeFrom = workStart;
+        for (int index = 0; index < meetings.size(); index++) {
+            int start = Math.max(meetings.start(index), workStart);
+            int end = Math.min(meetings.end(index), workEnd);
+            if (start >= end) {
+                continue;
+            }
+            if (start > freeFrom) {
+                unoccupiedPeriods.add(freeFrom, start);
+            }
+            freeFrom = Math.max(freeFrom, end);
+        }
+        if (freeFrom < workEnd) {
+            unoccupiedPeriods.add(freeFrom, workEnd);
         }
-        return unoccupiedPeriods;
     }
 
     static Calendar parseJson(String json) {
-        try {
-            return mapper.readValue(json, Calendar.class);
-        } catch (JsonProcessingException e) {
+        long startNanos = SolverMetrics.startTimer();
+        try (CalendarReader reader = CalendarReader.of(json)) {
+            return reader.next();
+        } catch (IOException e) {
+            SolverMetrics.countFailedParse();
             System.out.println("Incorrect JSON format");
+        } finally {
+            SolverMetrics.stopTimer(SolverMetrics.Phase.PARSE, startNanos);
         }
         return null;
     }
 
     @Override
     public String toString() {
-        return "Work start: " + workStartTime.toString() + "\n" +
-                "Work end: " + workEndTime.toString() + "\n" +
-                "Already scheduled meetings: " + scheduledMeetings.toString();
+        return "Work start: " + getWorkStartTime().toString() + "\n" +
+                "Work end: " + getWorkEndTime().toString() + "\n" +
+                "Already scheduled meetings: " + getScheduledMeetingMinutes().toString();
+    }
+
+    // the cursor reads free periods the calendars have now, later changes do not affect it
+    private static JointPeriodCursor jointPeriodCursor(Collection<Calendar> calendars, int meetingLength) {
+        IntervalBuffer[] availableLists = new IntervalBuffer[calendars.size()];
+        int listCount = 0;
+        for (Calendar calendar : calendars) {
+            availableLists[listCount++] = calendar.getUnoccupiedMinutes();
+        }
+        return new JointPeriodCursor(availableLists, listCount, meetingLength);
+    }
+
+    private static final class PossibleMeetingIterator implements Iterator<Period> {
+        private final JointPeriodCursor cursor;
+        private final int meetingLength;
+        private boolean ready;
+        private boolean hasNext;
+
+        private PossibleMeetingIterator(Collection<Calendar> calendars, int meetingLength) {
+            this.cursor = jointPeriodCursor(calendars, meetingLength);
+            this.meetingLength = meetingLength;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready) {
+                hasNext = cursor.next();
+                ready = true;
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Period next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            int start = cursor.start();
+            int end = cursor.end();
+            return new Period(IntervalBuffer.toLocalTime(Intervals.adjustedStart(start, end, meetingLength)),
+                    IntervalBuffer.toLocalTime(Intervals.adjustedEnd(start, end, meetingLength)));
+        }
+    }
+
+    private static final class VersionedPeriods {
+        private final int version;
+        private final IntervalBuffer periods;
+
+        private VersionedPeriods(int version, IntervalBuffer periods) {
+            this.version = version;
+            this.periods = periods;
+        }
     }
 }
@@ -0,0 +1,123 @@
+package io.meeting;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+// compact binary form of a calendar for storage and transport between services, every number is a varint,
+// meetings are written sorted by start and each start is a delta from the previous one, so a typical meeting
+// takes two or three bytes instead of around forty in JSON:
+//   format version, work start, work end - work start, meeting count,
+//   then per meeting start - previous start (work start for the first one) and end - start,
+// differences that may be negative are zigzag encoded, decoding reads the buffer straight into minutes
+final class CalendarCodec {
+
+    static final byte FORMAT_VERSION = 1;
+
+    // version byte, two working hours varints and the meeting count
+    private static final int MAX_HEADER_BYTES = 1 + 3 * 5;
+    private static final int MAX_MEETING_BYTES = 2 * 5;
+
+    private CalendarCodec() {
+    }
+
+    static byte[] encode(Calendar calendar) {
+        ByteBuffer buffer = ByteBuffer.allocate(maxEncodedSize(calendar));
+        encode(calendar, buffer);
+        byte[] encoded = new byte[buffer.position()];
+        buffer.flip().get(encoded);
+        return encoded;
+    }
+
+    // writes at the buffer position, the buffer needs maxEncodedSize bytes left
+    static void encode(Calendar calendar, ByteBuffer buffer) {
+        IntervalBuffer meetings = calendar.getScheduledMeetingMinutes();
+        int workStart = calendar.getWorkStart();
+
+        buffer.put(FORMAT_VERSION);
+        writeVarint(buffer, workStart);
+        writeVarint(buffer, zigzag(calendar.getWorkEnd() - workStart));
+        writeVarint(buffer, meetings.size());
+
+        int previousStart = workStart;
+        for (int index = 0; index < meetings.size(); index++) {
+            int start = meetings.start(index);
+            writeVarint(buffer, zigzag(start - previousStart));
+            writeVarint(buffer, zigzag(meetings.length(index)));
+            previousStart = start;
+        }
+    }
+
+    static int maxEncodedSize(Calendar calendar) {
+        return MAX_HEADER_BYTES + calendar.getScheduledMeetingMinutes().size() * MAX_MEETING_BYTES;
+    }
+
+    // reads one calendar from the buffer position and leaves the position after it
+    static Calendar decode(ByteBuffer buffer) {
+        try {
+            byte formatVersion = buffer.get();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unknown calendar format version " + formatVersion);
+            }
+            int workStart = readVarint(buffer);
+            int workEnd = workStart + unzigzag(readVarint(buffer));
+            checkWithinDay("Working hours", workStart, workEnd);
+            int meetingCount = readVarint(buffer);
+            // every meeting takes at least two bytes, so a corrupted count cannot allocate more than the input
+            if (meetingCount < 0 || meetingCount > buffer.remaining() / 2) {
+                throw new IllegalArgumentException("Meeting count " + meetingCount + " does not fit the input");
+            }
+
+            IntervalBuffer meetings = new IntervalBuffer(meetingCount);
+            int start = workStart;
+            for (int index = 0; index < meetingCount; index++) {
+                start += unzigzag(readVarint(buffer));
+                int end = start + unzigzag(readVarint(buffer));
+                checkWithinDay("Meeting", start, end);
+                meetings.add(start, end);
+            }
+            return new Calendar(workStart, workEnd, meetings);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Calendar encoding ends too early", e);
+        }
+    }
+
+    static Calendar decode(byte[] encoded) {
+        return decode(ByteBuffer.wrap(encoded));
+    }
+
+    // both ends have to be minutes of the day a parsed calendar can have, 00:00 to 23:59, a corrupted delta
+    // or length lands outside of them, an end before the start is kept, the reader accepts such periods
+    private static void checkWithinDay(String what, int start, int end) {
+        if (start < 0 || start >= IntervalBuffer.MINUTES_PER_DAY || end < 0 || end >= IntervalBuffer.MINUTES_PER_DAY) {
+            throw new IllegalArgumentException(what + " " + start + "-" + end + " is not within a day");
+        }
+    }
+
+    private static void writeVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte next = buffer.get();
+            value |= (next & 0x7F) << shift;
+            if (next >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint longer than five bytes");
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,149 @@
+package io.meeting;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+// streaming reader of calendars in the working_hours / planned_meeting shape, times are decoded
+// straight from the parser buffer into minutes, so no strings, LocalTime or Period objects are created,
+// it reads one calendar or a stream of calendars separated by whitespace, like NDJSON files
+final class CalendarReader implements Closeable {
+
+    private static final JsonFactory factory = new JsonFactory();
+
+    private final JsonParser parser;
+
+    private CalendarReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    static CalendarReader of(InputStream input) throws IOException {
+        return new CalendarReader(factory.createParser(input));
+    }
+
+    static CalendarReader of(String json) throws IOException {
+        return new CalendarReader(factory.createParser(json));
+    }
+
+    static JsonParser createParser(String json) throws IOException {
+        return factory.createParser(json);
+    }
+
+    static JsonParser createParser(InputStream input) throws IOException {
+        return factory.createParser(input);
+    }
+
+    // next calendar of the stream, null when the stream is finished
+    Calendar next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return null;
+        }
+        return readCalendar(parser);
+    }
+
+    // reads the calendar object the parser currently points at
+    static Calendar readCalendar(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+
+        int workStart = -1;
+        int workEnd = -1;
+        IntervalBuffer scheduledMeetings = new IntervalBuffer();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if ("working_hours".equals(field)) {
+                expect(parser, value, JsonToken.START_OBJECT);
+                long workingHours = readPeriod(parser);
+                workStart = (int) (workingHours >>> 32);
+                workEnd = (int) workingHours;
+            } else if ("planned_meeting".equals(field) && value != JsonToken.VALUE_NULL) {
+                expect(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    long meeting = readPeriod(parser);
+                    scheduledMeetings.add((int) (meeting >>> 32), (int) meeting);
+                }
+                expect(parser, parser.currentToken(), JsonToken.END_ARRAY);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        expect(parser, parser.currentToken(), JsonToken.END_OBJECT);
+
+        if (workStart < 0) {
+            throw new JsonParseException(parser, "Missing working_hours");
+        }
+        return new Calendar(workStart, workEnd, scheduledMeetings);
+    }
+
+    // start and end of a {"start": "HH:mm", "end": "HH:mm"} object packed as start << 32 | end
+    private static long readPeriod(JsonParser parser) throws IOException {
+        int start = -1;
+        int end = -1;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if ("start".equals(field)) {
+                start = readTime(parser, value);
+            } else if ("end".equals(field)) {
+                end = readTime(parser, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (start < 0 || end < 0) {
+            throw new JsonParseException(parser, "Period needs both start and end");
+        }
+        return ((long) start << 32) | end;
+    }
+
+    // "HH:mm" with optional seconds, which are dropped the same way IntervalBuffer.toMinutes drops them
+    private static int readTime(JsonParser parser, JsonToken value) throws IOException {
+        expect(parser, value, JsonToken.VALUE_STRING);
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+
+        if ((length != 5 && length != 8) || text[offset + 2] != ':' || (length == 8 && text[offset + 5] != ':')) {
+            throw new JsonParseException(parser, "Time has to be in HH:mm format");
+        }
+        int hours = digits(parser, text, offset);
+        int minutes = digits(parser, text, offset + 3);
+        if (length == 8 && digits(parser, text, offset + 6) > 59) {
+            throw new JsonParseException(parser, "Seconds out of range");
+        }
+        if (hours > 23 || minutes > 59) {
+            throw new JsonParseException(parser, "Time out of range");
+        }
+        return hours * 60 + minutes;
+    }
+
+    private static int digits(JsonParser parser, char[] text, int offset) throws IOException {
+        int tens = text[offset] - '0';
+        int ones = text[offset + 1] - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            throw new JsonParseException(parser, "Time has to be in HH:mm format");
+        }
+        return tens * 10 + ones;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
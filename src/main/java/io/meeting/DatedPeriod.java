@@ -0,0 +1,28 @@
+package io.meeting;
+
+import java.time.LocalDate;
+
+// period of one day of a longer horizon
+final class DatedPeriod {
+
+    private final LocalDate date;
+    private final Period period;
+
+    DatedPeriod(LocalDate date, Period period) {
+        this.date = date;
+        this.period = period;
+    }
+
+    LocalDate getDate() {
+        return date;
+    }
+
+    Period getPeriod() {
+        return period;
+    }
+
+    @Override
+    public String toString() {
+        return date + " " + period;
+    }
+}
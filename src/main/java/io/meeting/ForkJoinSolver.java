@@ -0,0 +1,100 @@
+package io.meeting;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// joint free time of very large groups, intersecting is associative, so the calendars are split in halves
+// that are intersected on their own and merged, groups up to the threshold are swept sequentially,
+// as soon as one part has nothing long enough left every other part stops, because the result is empty anyway
+final class ForkJoinSolver {
+
+    static final int DEFAULT_SEQUENTIAL_THRESHOLD = 32;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    ForkJoinSolver(ForkJoinPool pool, int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("Sequential threshold has to be positive");
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    static ForkJoinSolver onCommonPool() {
+        return new ForkJoinSolver(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    List<Period> proposePossibleMeetings(List<Calendar> calendars, int meetingLength) {
+        if (calendars.isEmpty()) {
+            return List.of();
+        }
+        IntervalBuffer jointPeriods = pool.invoke(new IntersectionTask(calendars, 0, calendars.size(),
+                meetingLength, new AtomicBoolean()));
+
+        IntervalBuffer possibleMeetings = new IntervalBuffer(jointPeriods.size());
+        Intervals.adjustToCommonMeetingHours(jointPeriods, meetingLength, possibleMeetings);
+        return possibleMeetings.toPeriods();
+    }
+
+    private final class IntersectionTask extends RecursiveTask<IntervalBuffer> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Calendar> calendars;
+        private final int from;
+        private final int to;
+        private final int meetingLength;
+        private final AtomicBoolean nothingLeft;
+
+        private IntersectionTask(List<Calendar> calendars, int from, int to,
+                                 int meetingLength, AtomicBoolean nothingLeft) {
+            this.calendars = calendars;
+            this.from = from;
+            this.to = to;
+            this.meetingLength = meetingLength;
+            this.nothingLeft = nothingLeft;
+        }
+
+        @Override
+        protected IntervalBuffer compute() {
+            if (nothingLeft.get()) {
+                return new IntervalBuffer(1);
+            }
+            IntervalBuffer jointPeriods = to - from <= sequentialThreshold ? sweep() : splitAndMerge();
+            if (jointPeriods.isEmpty()) {
+                nothingLeft.set(true);
+            }
+            return jointPeriods;
+        }
+
+        private IntervalBuffer sweep() {
+            Intervals.Workspace workspace = Intervals.workspace();
+            IntervalBuffer[] availableLists = workspace.sharedLists(to - from);
+            for (int index = from; index < to; index++) {
+                availableLists[index - from] = calendars.get(index).getUnoccupiedMinutes();
+            }
+            // the result leaves this thread, so it cannot be one of the workspace buffers
+            IntervalBuffer jointPeriods = new IntervalBuffer();
+            Intervals.intersectAll(availableLists, to - from, meetingLength, jointPeriods);
+            workspace.releaseSharedLists(to - from);
+            return jointPeriods;
+        }
+
+        private IntervalBuffer splitAndMerge() {
+            int middle = (from + to) >>> 1;
+            IntersectionTask left = new IntersectionTask(calendars, from, middle, meetingLength, nothingLeft);
+            IntersectionTask right = new IntersectionTask(calendars, middle, to, meetingLength, nothingLeft);
+            left.fork();
+            IntervalBuffer rightPeriods = right.compute();
+            IntervalBuffer leftPeriods = left.join();
+
+            IntervalBuffer jointPeriods = new IntervalBuffer(Math.min(leftPeriods.size(), rightPeriods.size()) + 1);
+            if (!nothingLeft.get()) {
+                Intervals.intersect(leftPeriods, rightPeriods, meetingLength, jointPeriods);
+            }
+            return jointPeriods;
+        }
+    }
+}
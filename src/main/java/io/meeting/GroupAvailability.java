@@ -0,0 +1,120 @@
+package io.meeting;
+
+import java.util.List;
+
+// joint free time of a fixed group kept up to date as members' calendars change, members are leaves
+// of a segment tree and every inner node holds the joint free time of the members below it,
+// a changed calendar only recomputes the nodes on the path from its leaf to the root, O(log n) intersections
+// instead of an n-way merge, and a query reads the root, changes are noticed by comparing calendar versions
+final class GroupAvailability {
+
+    private final String name;
+    private final Calendar[] members;
+    private final int[] memberVersions;
+    private final int leafCount;
+    // nodes[1] is the root, children of node i are 2i and 2i + 1, leaves start at leafCount,
+    // leaves hold the cached free time of their calendar and leaves without a member are null
+    private final IntervalBuffer[] nodes;
+    private final boolean[] stale;
+
+    private long recomputedNodes;
+
+    GroupAvailability(String name, List<Calendar> members) {
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("Group " + name + " needs at least one member");
+        }
+        this.name = name;
+        this.members = members.toArray(new Calendar[0]);
+        this.memberVersions = new int[this.members.length];
+        this.leafCount = Integer.highestOneBit(Math.max(1, this.members.length * 2 - 1));
+        this.nodes = new IntervalBuffer[2 * leafCount];
+        this.stale = new boolean[leafCount];
+
+        for (int member = 0; member < this.members.length; member++) {
+            memberVersions[member] = this.members[member].getVersion();
+            nodes[leafCount + member] = this.members[member].getUnoccupiedMinutes();
+        }
+        for (int node = leafCount - 1; node >= 1; node--) {
+            recompute(node);
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getMemberCount() {
+        return members.length;
+    }
+
+    // inner nodes recomputed since the group was created, the cost of keeping it current
+    synchronized long getRecomputedNodes() {
+        return recomputedNodes;
+    }
+
+    synchronized List<Period> proposePossibleMeetings(int meetingLength) {
+        refresh();
+
+        Intervals.Workspace workspace = Intervals.workspace();
+        workspace.clear();
+        IntervalBuffer jointFreeTime = nodes[1];
+        for (int index = 0; index < jointFreeTime.size(); index++) {
+            if (jointFreeTime.length(index) >= meetingLength) {
+                workspace.jointPeriods.add(jointFreeTime.start(index), jointFreeTime.end(index));
+            }
+        }
+        Intervals.adjustToCommonMeetingHours(workspace.jointPeriods, meetingLength, workspace.possibleMeetings);
+        return workspace.possibleMeetings.toPeriods();
+    }
+
+    // swaps in free time of members that changed and recomputes their ancestors, each one once
+    private void refresh() {
+        boolean changed = false;
+        for (int member = 0; member < members.length; member++) {
+            int version = members[member].getVersion();
+            if (version != memberVersions[member]) {
+                memberVersions[member] = version;
+                nodes[leafCount + member] = members[member].getUnoccupiedMinutes();
+                stale[(leafCount + member) >> 1] = true;
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return;
+        }
+        // parents have smaller indices than their children, so going down the indices visits children first
+        for (int node = leafCount - 1; node >= 1; node--) {
+            if (stale[node]) {
+                stale[node] = false;
+                recompute(node);
+                if (node > 1) {
+                    stale[node >> 1] = true;
+                }
+            }
+        }
+    }
+
+    private void recompute(int node) {
+        IntervalBuffer left = nodes[2 * node];
+        IntervalBuffer right = nodes[2 * node + 1];
+        recomputedNodes++;
+        if (left == null && right == null) {
+            nodes[node] = null;
+            return;
+        }
+        IntervalBuffer jointFreeTime = nodes[node];
+        if (jointFreeTime == null) {
+            jointFreeTime = new IntervalBuffer();
+            nodes[node] = jointFreeTime;
+        }
+        jointFreeTime.clear();
+
+        if (left == null || right == null) {
+            // a leaf without a member does not restrict the group
+            jointFreeTime.addAll(left != null ? left : right);
+        } else {
+            // any shared minute is kept, the meeting length is only applied by queries
+            Intervals.intersect(left, right, 1, jointFreeTime);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.meeting;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// named teams that are scheduled again and again, every team keeps its joint free time current
+final class GroupDirectory {
+
+    private final Map<String, GroupAvailability> groups = new ConcurrentHashMap<>();
+
+    GroupAvailability define(String name, List<Calendar> members) {
+        GroupAvailability group = new GroupAvailability(name, members);
+        groups.put(name, group);
+        return group;
+    }
+
+    GroupAvailability get(String name) {
+        return groups.get(name);
+    }
+
+    boolean remove(String name) {
+        return groups.remove(name) != null;
+    }
+
+    List<Period> proposePossibleMeetings(String name, int meetingLength) {
+        GroupAvailability group = groups.get(name);
+        if (group == null) {
+            throw new IllegalArgumentException("Unknown group " + name);
+        }
+        return group.proposePossibleMeetings(meetingLength);
+    }
+}
@@ -0,0 +1,143 @@
+package io.meeting;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+// calendar over many days, working hours of every day and busy time are minutes since 1970-01-01T00:00 in local time,
+// int minutes reach beyond the year 6000, so the same buffers and sweep as for a single day solve the whole horizon
+// in one pass, busy time may span days, like leaves or trips
+final class HorizonCalendar {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final IntervalBuffer unoccupiedPeriods;
+
+    // working windows must not overlap and each has to end before the midnight after its start, because proposals
+    // are dated periods within one day, busy periods may overlap and span days, the given buffers are not changed
+    HorizonCalendar(IntervalBuffer workingWindows, IntervalBuffer busyPeriods) {
+        IntervalBuffer sortedWindows = copy(workingWindows);
+        IntervalBuffer sortedBusy = copy(busyPeriods);
+        for (int index = 0; index < sortedWindows.size(); index++) {
+            int start = sortedWindows.start(index);
+            int end = sortedWindows.end(index);
+            if (end < start || end - Math.floorDiv(start, MINUTES_PER_DAY) * MINUTES_PER_DAY >= MINUTES_PER_DAY) {
+                throw new IllegalArgumentException("Working window " + start + "-" + end + " has to end on the day it starts");
+            }
+        }
+        sortedWindows.sortByStart();
+        sortedBusy.sortByStart();
+        this.unoccupiedPeriods = subtract(sortedWindows, mergeOverlapping(sortedBusy));
+    }
+
+    // one day calendar per working day, days missing from the map are not worked
+    static HorizonCalendar ofDays(SortedMap<LocalDate, Calendar> days) {
+        IntervalBuffer workingWindows = new IntervalBuffer(days.size());
+        IntervalBuffer busyPeriods = new IntervalBuffer();
+
+        for (Map.Entry<LocalDate, Calendar> day : days.entrySet()) {
+            int dayStart = toEpochMinute(day.getKey(), 0);
+            Calendar calendar = day.getValue();
+            workingWindows.add(dayStart + calendar.getWorkStart(), dayStart + calendar.getWorkEnd());
+
+            IntervalBuffer meetings = calendar.getScheduledMeetingMinutes();
+            for (int index = 0; index < meetings.size(); index++) {
+                busyPeriods.add(dayStart + meetings.start(index), dayStart + meetings.end(index));
+            }
+        }
+        return new HorizonCalendar(workingWindows, busyPeriods);
+    }
+
+    static int toEpochMinute(LocalDate date, int minuteOfDay) {
+        return Math.toIntExact(date.toEpochDay() * MINUTES_PER_DAY + minuteOfDay);
+    }
+
+    static int toEpochMinute(LocalDateTime dateTime) {
+        return toEpochMinute(dateTime.toLocalDate(), dateTime.getHour() * 60 + dateTime.getMinute());
+    }
+
+    IntervalBuffer getUnoccupiedMinutes() {
+        return unoccupiedPeriods;
+    }
+
+    // one k-way sweep over the free time of the whole horizon of every attendee
+    static List<DatedPeriod> proposePossibleMeetings(Collection<HorizonCalendar> calendars, int meetingLength) {
+        Intervals.Workspace workspace = Intervals.workspace();
+        workspace.clear();
+
+        IntervalBuffer[] availableLists = workspace.sharedLists(calendars.size());
+        int listCount = 0;
+        for (HorizonCalendar calendar : calendars) {
+            availableLists[listCount++] = calendar.unoccupiedPeriods;
+        }
+        Intervals.intersectAll(availableLists, listCount, meetingLength, workspace.jointPeriods);
+        workspace.releaseSharedLists(listCount);
+        Intervals.adjustToCommonMeetingHours(workspace.jointPeriods, meetingLength, workspace.possibleMeetings);
+
+        return toDatedPeriods(workspace.possibleMeetings);
+    }
+
+    static List<DatedPeriod> toDatedPeriods(IntervalBuffer epochPeriods) {
+        List<DatedPeriod> datedPeriods = new ArrayList<>(epochPeriods.size());
+        for (int index = 0; index < epochPeriods.size(); index++) {
+            int start = epochPeriods.start(index);
+            int dayStart = Math.floorDiv(start, MINUTES_PER_DAY) * MINUTES_PER_DAY;
+            datedPeriods.add(new DatedPeriod(LocalDate.ofEpochDay(dayStart / MINUTES_PER_DAY),
+                    new Period(IntervalBuffer.toLocalTime(start - dayStart),
+                            IntervalBuffer.toLocalTime(epochPeriods.end(index) - dayStart))));
+        }
+        return datedPeriods;
+    }
+
+    private static IntervalBuffer copy(IntervalBuffer periods) {
+        IntervalBuffer copy = new IntervalBuffer(periods.size());
+        copy.addAll(periods);
+        return copy;
+    }
+
+    // busy periods sorted by start merged into disjoint ones in one pass
+    private static IntervalBuffer mergeOverlapping(IntervalBuffer busyPeriods) {
+        IntervalBuffer merged = new IntervalBuffer(busyPeriods.size());
+        int index = 0;
+        while (index < busyPeriods.size()) {
+            int start = busyPeriods.start(index);
+            int end = busyPeriods.end(index);
+            while (++index < busyPeriods.size() && busyPeriods.start(index) <= end) {
+                end = Math.max(end, busyPeriods.end(index));
+            }
+            merged.add(start, end);
+        }
+        return merged;
+    }
+
+    // working windows minus disjoint busy periods, both lists are walked once
+    private static IntervalBuffer subtract(IntervalBuffer workingWindows, IntervalBuffer busyPeriods) {
+        IntervalBuffer free = new IntervalBuffer(workingWindows.size() + busyPeriods.size());
+        int busy = 0;
+
+        for (int window = 0; window < workingWindows.size(); window++) {
+            int freeStart = workingWindows.start(window);
+            int windowEnd = workingWindows.end(window);
+
+            while (busy < busyPeriods.size() && busyPeriods.end(busy) <= freeStart) {
+                busy++;
+            }
+            int next = busy;
+            while (next < busyPeriods.size() && busyPeriods.start(next) < windowEnd) {
+                if (busyPeriods.start(next) > freeStart) {
+                    free.add(freeStart, busyPeriods.start(next));
+                }
+                freeStart = Math.max(freeStart, busyPeriods.end(next));
+                next++;
+            }
+            if (freeStart < windowEnd) {
+                free.add(freeStart, windowEnd);
+            }
+        }
+        return free;
+    }
+}
@@ -0,0 +1,173 @@
+package io.meeting;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// growable list of periods kept as minutes of the day, every period is packed into one long as start << 32 | end,
+// so sorting the array orders periods by start time and then by end time without any comparator
+final class IntervalBuffer {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    // below this size a comparison sort is faster than clearing and scanning the day wide counters
+    private static final int COUNTING_SORT_THRESHOLD = 256;
+
+    private long[] packed;
+    private int size;
+
+    IntervalBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    IntervalBuffer(int capacity) {
+        this.packed = new long[Math.max(1, capacity)];
+    }
+
+    static IntervalBuffer fromPeriods(List<Period> periods) {
+        IntervalBuffer buffer = new IntervalBuffer(periods.size());
+        buffer.addPeriods(periods);
+        return buffer;
+    }
+
+    static int toMinutes(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    static LocalTime toLocalTime(int minutes) {
+        return LocalTime.of(minutes / 60, minutes % 60);
+    }
+
+    void add(int start, int end) {
+        if (size == packed.length) {
+            packed = Arrays.copyOf(packed, size * 2);
+        }
+        packed[size++] = pack(start, end);
+    }
+
+    // a period already packed as start << 32 | end, like the ones stored by MappedCalendarStore
+    void addPacked(long period) {
+        if (size == packed.length) {
+            packed = Arrays.copyOf(packed, size * 2);
+        }
+        packed[size++] = period;
+    }
+
+    void addPeriods(List<Period> periods) {
+        ensureCapacity(size + periods.size());
+        for (Period period : periods) {
+            add(toMinutes(period.getStartTime()), toMinutes(period.getEndTime()));
+        }
+    }
+
+    void addAll(IntervalBuffer second) {
+        ensureCapacity(size + second.size);
+        System.arraycopy(second.packed, 0, packed, size, second.size);
+        size += second.size;
+    }
+
+    long packed(int index) {
+        return packed[index];
+    }
+
+    int start(int index) {
+        return (int) (packed[index] >>> 32);
+    }
+
+    int end(int index) {
+        return (int) packed[index];
+    }
+
+    int length(int index) {
+        return end(index) - start(index);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    // periods within one day are sorted in O(n) by two stable counting passes, by end and then by start,
+    // other periods, like minutes of a multi day horizon, by a comparison sort
+    void sortByStart() {
+        if (isSortedByStart()) {
+            return;
+        }
+        if (size >= COUNTING_SORT_THRESHOLD && isWithinDay()) {
+            long[] byEnd = new long[size];
+            countingSort(packed, byEnd, false);
+            countingSort(byEnd, packed, true);
+        } else {
+            Arrays.sort(packed, 0, size);
+        }
+    }
+
+    boolean isWithinDay() {
+        for (int index = 0; index < size; index++) {
+            int start = start(index);
+            int end = end(index);
+            if (start < 0 || start > MINUTES_PER_DAY || end < 0 || end > MINUTES_PER_DAY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void countingSort(long[] source, long[] target, boolean byStart) {
+        int[] positions = new int[MINUTES_PER_DAY + 2];
+        for (int index = 0; index < size; index++) {
+            positions[key(source[index], byStart) + 1]++;
+        }
+        for (int minute = 1; minute < positions.length; minute++) {
+            positions[minute] += positions[minute - 1];
+        }
+        for (int index = 0; index < size; index++) {
+            target[positions[key(source[index], byStart)]++] = source[index];
+        }
+    }
+
+    private static int key(long period, boolean byStart) {
+        return byStart ? (int) (period >>> 32) : (int) period;
+    }
+
+    boolean isSortedByStart() {
+        for (int index = 1; index < size; index++) {
+            if (packed[index - 1] > packed[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    List<Period> toPeriods() {
+        List<Period> periods = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            periods.add(new Period(toLocalTime(start(index)), toLocalTime(end(index))));
+        }
+        return periods;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > packed.length) {
+            packed = Arrays.copyOf(packed, Math.max(capacity, packed.length * 2));
+        }
+    }
+
+    private static long pack(int start, int end) {
+        return ((long) start << 32) | (end & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public String toString() {
+        return toPeriods().toString();
+    }
+}
@@ -0,0 +1,155 @@
+package io.meeting;
+
+import java.util.Arrays;
+
+// algorithms on periods stored as minutes of the day, they write into buffers given by the caller
+// and do not create any objects on their own
+final class Intervals {
+
+    static final int ROUNDING_MINUTES = 5;
+
+    private static final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+
+    private Intervals() {
+    }
+
+    static Workspace workspace() {
+        return workspaces.get();
+    }
+
+    // two pointer merge of two sorted lists, every step moves past the period that ends first, so it runs in O(n + m),
+    // the number of steps is returned, so the bound can be checked without timing it
+    static int intersect(IntervalBuffer availableOne, IntervalBuffer availableTwo,
+                         int meetingLength, IntervalBuffer jointPeriods) {
+        long startNanos = SolverMetrics.startTimer();
+        int indexOne = 0;
+        int indexTwo = 0;
+        int steps = 0;
+
+        while (indexOne < availableOne.size() && indexTwo < availableTwo.size()) {
+            int endOne = availableOne.end(indexOne);
+            int endTwo = availableTwo.end(indexTwo);
+            int jointStart = Math.max(availableOne.start(indexOne), availableTwo.start(indexTwo));
+            int jointEnd = Math.min(endOne, endTwo);
+
+            if (jointEnd - jointStart >= meetingLength) {
+                jointPeriods.add(jointStart, jointEnd);
+            }
+
+            if (endOne < endTwo) {
+                indexOne++;
+            } else {
+                indexTwo++;
+            }
+            steps++;
+        }
+        SolverMetrics.stopTimer(SolverMetrics.Phase.INTERSECT, startNanos);
+        return steps;
+    }
+
+    // every joint period of all lists at once, see JointPeriodCursor
+    static void intersectAll(IntervalBuffer[] availableLists, int listCount,
+                             int meetingLength, IntervalBuffer jointPeriods) {
+        long startNanos = SolverMetrics.startTimer();
+        Workspace workspace = workspace();
+        JointPeriodCursor cursor = new JointPeriodCursor(availableLists, listCount, meetingLength,
+                workspace.heap(listCount), workspace.positions(listCount));
+        while (cursor.next()) {
+            jointPeriods.add(cursor.start(), cursor.end());
+        }
+        SolverMetrics.stopTimer(SolverMetrics.Phase.INTERSECT, startNanos);
+    }
+
+    // joint periods long enough after rounding to 5 minutes are proposed rounded, shorter ones start at their beginning
+    static void adjustToCommonMeetingHours(IntervalBuffer jointPeriods, int meetingLength,
+                                           IntervalBuffer possibleMeetings) {
+        long startNanos = SolverMetrics.startTimer();
+        for (int index = 0; index < jointPeriods.size(); index++) {
+            int start = jointPeriods.start(index);
+            int end = jointPeriods.end(index);
+            possibleMeetings.add(adjustedStart(start, end, meetingLength), adjustedEnd(start, end, meetingLength));
+        }
+        possibleMeetings.sortByStart();
+        SolverMetrics.stopTimer(SolverMetrics.Phase.ADJUST, startNanos);
+    }
+
+    // the adjusted period starts inside the joint one and ends before it, so proposals keep the order of joint periods
+    static int adjustedStart(int start, int end, int meetingLength) {
+        return fitsRounded(start, end, meetingLength) ? roundUp(start) : start;
+    }
+
+    static int adjustedEnd(int start, int end, int meetingLength) {
+        return fitsRounded(start, end, meetingLength) ? roundDown(end) : start + meetingLength;
+    }
+
+    private static boolean fitsRounded(int start, int end, int meetingLength) {
+        return roundDown(end) - roundUp(start) >= meetingLength;
+    }
+
+    static int roundUp(int minutes) {
+        return (minutes + ROUNDING_MINUTES - 1) / ROUNDING_MINUTES * ROUNDING_MINUTES;
+    }
+
+    static int roundDown(int minutes) {
+        return minutes / ROUNDING_MINUTES * ROUNDING_MINUTES;
+    }
+
+    // per thread buffers reused by every solve, so solving calendars does not allocate apart from the result
+    static final class Workspace {
+        final IntervalBuffer availableOne = new IntervalBuffer();
+        final IntervalBuffer availableTwo = new IntervalBuffer();
+        final IntervalBuffer jointPeriods = new IntervalBuffer();
+        final IntervalBuffer possibleMeetings = new IntervalBuffer();
+
+        private IntervalBuffer[] availableLists = new IntervalBuffer[0];
+        private IntervalBuffer[] sharedLists = new IntervalBuffer[0];
+        private int[] heap = new int[0];
+        private int[] positions = new int[0];
+
+        IntervalBuffer[] availableLists(int count) {
+            if (availableLists.length < count) {
+                IntervalBuffer[] grown = new IntervalBuffer[Math.max(count, availableLists.length * 2)];
+                System.arraycopy(availableLists, 0, grown, 0, availableLists.length);
+                for (int index = availableLists.length; index < grown.length; index++) {
+                    grown[index] = new IntervalBuffer();
+                }
+                availableLists = grown;
+            }
+            return availableLists;
+        }
+
+        // slots for buffers owned by somebody else, like cached free periods of calendars,
+        // they are only read and have to be released after use, so the workspace does not keep them alive
+        IntervalBuffer[] sharedLists(int count) {
+            if (sharedLists.length < count) {
+                sharedLists = new IntervalBuffer[Math.max(count, sharedLists.length * 2)];
+            }
+            return sharedLists;
+        }
+
+        void releaseSharedLists(int count) {
+            Arrays.fill(sharedLists, 0, count, null);
+        }
+
+        void clear() {
+            availableOne.clear();
+            availableTwo.clear();
+            jointPeriods.clear();
+            possibleMeetings.clear();
+        }
+
+        private int[] heap(int count) {
+            if (heap.length < count) {
+                heap = new int[Math.max(count, heap.length * 2)];
+            }
+            return heap;
+        }
+
+        private int[] positions(int count) {
+            if (positions.length < count) {
+                positions = new int[Math.max(count, positions.length * 2)];
+            }
+            return positions;
+        }
+    }
+}
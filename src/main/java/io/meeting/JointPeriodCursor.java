@@ -0,0 +1,125 @@
+package io.meeting;
+
+// k-way sweep over sorted lists that stops at every joint period, so callers can take as many as they need,
+// a heap of list indices is ordered by the next boundary of every list and a joint period is open
+// while all lists are inside one of their periods, the whole sweep is O(total periods * log k)
+final class JointPeriodCursor {
+
+    private final IntervalBuffer[] availableLists;
+    private final int listCount;
+    private final int meetingLength;
+    private final int[] heap;
+    private final int[] positions;
+
+    private int listsInsidePeriod;
+    private int jointStart;
+    private int start;
+    private int end;
+    private boolean finished;
+
+    JointPeriodCursor(IntervalBuffer[] availableLists, int listCount, int meetingLength) {
+        this(availableLists, listCount, meetingLength, new int[listCount], new int[listCount]);
+    }
+
+    // heap and positions are scratch arrays of at least listCount elements
+    JointPeriodCursor(IntervalBuffer[] availableLists, int listCount, int meetingLength,
+                      int[] heap, int[] positions) {
+        this.availableLists = availableLists;
+        this.listCount = listCount;
+        this.meetingLength = meetingLength;
+        this.heap = heap;
+        this.positions = positions;
+        this.finished = listCount == 0;
+
+        for (int list = 0; list < listCount && !finished; list++) {
+            finished = availableLists[list].isEmpty();
+            positions[list] = 0;
+            heap[list] = list;
+        }
+        for (int index = listCount / 2 - 1; index >= 0 && !finished; index--) {
+            siftDown(index);
+        }
+    }
+
+    // moves to the next joint period of at least meeting length, false when there is none
+    boolean next() {
+        while (!finished) {
+            int list = heap[0];
+            int position = positions[list];
+            int time = boundary(availableLists[list], position);
+            boolean found = false;
+
+            if ((position & 1) == 1) {
+                if (listsInsidePeriod == listCount && time - jointStart >= meetingLength) {
+                    start = jointStart;
+                    end = time;
+                    found = true;
+                }
+                listsInsidePeriod--;
+            } else {
+                listsInsidePeriod++;
+                if (listsInsidePeriod == listCount) {
+                    jointStart = time;
+                }
+            }
+
+            positions[list] = ++position;
+            if (position == availableLists[list].size() * 2) {
+                // one list has no more free time, so no joint period can open again
+                finished = true;
+            } else {
+                siftDown(0);
+            }
+            if (found) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int start() {
+        return start;
+    }
+
+    int end() {
+        return end;
+    }
+
+    // even positions are starts and odd positions are ends of periods, at equal times ends go first
+    // so periods that only touch never open a joint period
+    private static int boundary(IntervalBuffer periods, int position) {
+        int index = position >> 1;
+        return (position & 1) == 0 ? periods.start(index) : periods.end(index);
+    }
+
+    private long boundaryKey(int list) {
+        int position = positions[list];
+        return ((long) boundary(availableLists[list], position) << 1) | (~position & 1);
+    }
+
+    private void siftDown(int index) {
+        int list = heap[index];
+        long key = boundaryKey(list);
+
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= listCount) {
+                break;
+            }
+            long childKey = boundaryKey(heap[child]);
+            if (child + 1 < listCount) {
+                long rightKey = boundaryKey(heap[child + 1]);
+                if (rightKey < childKey) {
+                    child++;
+                    childKey = rightKey;
+                }
+            }
+            if (key <= childKey) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = list;
+    }
+}
@@ -0,0 +1,291 @@
+package io.meeting;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// calendars of a whole organisation in one memory mapped file keyed by user id, the heap holds only the mapping,
+// so it stays small however many calendars are stored, and opening an existing file costs one mmap call,
+// free periods are stored in the packed form of IntervalBuffer, so solving copies longs into workspace buffers
+// and never deserializes a calendar, the file layout is
+//   header: magic, format version, slot count, calendar count, end of data
+//   index: slot count * (user id, record offset), open addressing with linear probing, offset 0 is an empty slot
+//   data: appended records of version, capacity, work start, work end, meeting count, free period count,
+//         packed meetings, packed free periods
+// a record is appended with a quarter of its size to spare, a changed calendar that still fits is rewritten
+// in place, so updating the same calendars never fills the file, only a calendar that outgrew its record
+// is appended again and its slot points to the new record, the old one stays as garbage,
+// writes are serialized, reads run concurrently with them and see a calendar either before or after the change,
+// a slot's record offset is published with release ordering after the record is written and read with acquire
+// ordering before the record is read, and a record rewritten in place has an odd version while it is written,
+// a reader that saw an odd or changed version around its copy reads the record again
+final class MappedCalendarStore implements Closeable {
+
+    // 8 byte aligned in a page aligned mapping, which ordered access needs
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class,
+            ByteOrder.LITTLE_ENDIAN);
+
+    private static final int MAGIC = 0x4D43414C;
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int HEADER_BYTES = 32;
+    private static final int SLOT_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 24;
+
+    private static final int SLOT_COUNT_POSITION = 8;
+    private static final int SIZE_POSITION = 12;
+    private static final int DATA_END_POSITION = 16;
+
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int WORK_START_OFFSET = 8;
+    private static final int WORK_END_OFFSET = 12;
+    private static final int MEETING_COUNT_OFFSET = 16;
+    private static final int FREE_COUNT_OFFSET = 20;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer mapping;
+    private final int slotMask;
+
+    // written after every change and read before every lookup, so readers see complete records
+    private volatile int size;
+    private int dataEnd;
+
+    private MappedCalendarStore(FileChannel channel, MappedByteBuffer mapping) {
+        this.channel = channel;
+        this.mapping = mapping;
+        int slotCount = mapping.getInt(SLOT_COUNT_POSITION);
+        this.slotMask = slotCount - 1;
+        this.size = mapping.getInt(SIZE_POSITION);
+        this.dataEnd = (int) mapping.getLong(DATA_END_POSITION);
+    }
+
+    // opens the store in the file, a missing file is created for up to maxUsers calendars and dataBytes of records,
+    // an existing file keeps the layout it was created with
+    static MappedCalendarStore open(Path file, int maxUsers, int dataBytes) throws IOException {
+        boolean created = !Files.exists(file) || Files.size(file) == 0;
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long fileSize = created ? layoutSize(maxUsers, dataBytes) : channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Calendar store cannot be larger than 2 GB");
+            }
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            // fixed byte order, so files can be moved between machines
+            mapping.order(ByteOrder.LITTLE_ENDIAN);
+            if (created) {
+                int slotCount = slotCount(maxUsers);
+                mapping.putInt(0, MAGIC);
+                mapping.putInt(4, FORMAT_VERSION);
+                mapping.putInt(SLOT_COUNT_POSITION, slotCount);
+                mapping.putInt(SIZE_POSITION, 0);
+                mapping.putLong(DATA_END_POSITION, HEADER_BYTES + (long) slotCount * SLOT_BYTES);
+            } else if (mapping.getInt(0) != MAGIC || mapping.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Not a calendar store: " + file);
+            }
+            return new MappedCalendarStore(channel, mapping);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(long userId) {
+        return recordOffset(userId) != 0;
+    }
+
+    synchronized void put(long userId, Calendar calendar) {
+        IntervalBuffer meetings = calendar.getScheduledMeetingMinutes();
+        IntervalBuffer freePeriods = calendar.getUnoccupiedMinutes();
+        long recordBytes = RECORD_HEADER_BYTES + 8L * (meetings.size() + freePeriods.size());
+
+        int slot = findSlot(userId);
+        int existing = (int) slotRecord(slot);
+        if (existing != 0 && recordBytes <= mapping.getInt(existing + CAPACITY_OFFSET)) {
+            // readers retry while the version is odd or has changed since they started
+            int version = mapping.getInt(existing);
+            INTS.setOpaque(mapping, existing, version + 1);
+            VarHandle.storeStoreFence();
+            writeRecord(existing, calendar, meetings, freePeriods);
+            INTS.setRelease(mapping, existing, version + 2);
+            return;
+        }
+
+        if (dataEnd + recordBytes > mapping.capacity()) {
+            throw new IllegalStateException("Calendar store is full");
+        }
+        boolean added = existing == 0;
+        if (added && size + 1 > (slotMask + 1) / 2) {
+            throw new IllegalStateException("Calendar store is full");
+        }
+
+        // room for a few more periods, so the next changes of the calendar are rewritten in place,
+        // a multiple of 8 keeps the records aligned for ordered access
+        long spareBytes = Math.min((recordBytes / 4 + 7) & ~7L, mapping.capacity() - dataEnd - recordBytes);
+        int record = dataEnd;
+        mapping.putInt(record, 0);
+        mapping.putInt(record + CAPACITY_OFFSET, (int) (recordBytes + spareBytes));
+        writeRecord(record, calendar, meetings, freePeriods);
+        dataEnd = (int) (record + recordBytes + spareBytes);
+        mapping.putLong(DATA_END_POSITION, dataEnd);
+
+        // the user id and the record are complete before the slot points at the record
+        mapping.putLong(slotPosition(slot), userId);
+        LONGS.setRelease(mapping, slotPosition(slot) + 8, (long) record);
+        int newSize = added ? size + 1 : size;
+        mapping.putInt(SIZE_POSITION, newSize);
+        size = newSize;
+    }
+
+    // a heap copy of the stored calendar, for editing, null when the user has no calendar
+    Calendar get(long userId) {
+        int record = recordOffset(userId);
+        if (record == 0) {
+            return null;
+        }
+        IntervalBuffer meetings = new IntervalBuffer(4);
+        while (true) {
+            int version = beginRead(record);
+            int workStart = mapping.getInt(record + WORK_START_OFFSET);
+            int workEnd = mapping.getInt(record + WORK_END_OFFSET);
+            meetings.clear();
+            readPacked(record + RECORD_HEADER_BYTES, mapping.getInt(record + MEETING_COUNT_OFFSET), meetings);
+            if (validateRead(record, version)) {
+                return new Calendar(workStart, workEnd, meetings);
+            }
+        }
+    }
+
+    // reads free periods of the users straight from the mapping into workspace buffers
+    List<Period> proposePossibleMeetings(long[] userIds, int meetingLength) {
+        Intervals.Workspace workspace = Intervals.workspace();
+        workspace.clear();
+
+        IntervalBuffer[] availableLists = workspace.availableLists(userIds.length);
+        for (int index = 0; index < userIds.length; index++) {
+            int record = recordOffset(userIds[index]);
+            if (record == 0) {
+                throw new IllegalArgumentException("No calendar stored for user " + userIds[index]);
+            }
+            int version;
+            do {
+                version = beginRead(record);
+                int meetingCount = mapping.getInt(record + MEETING_COUNT_OFFSET);
+                int freeCount = mapping.getInt(record + FREE_COUNT_OFFSET);
+                availableLists[index].clear();
+                // a torn copy can pair the old meeting count with the new free period count, which may not fit
+                // in the record, the version check then repeats the copy anyway
+                if (RECORD_HEADER_BYTES + 8L * (meetingCount + freeCount) <= mapping.getInt(record + CAPACITY_OFFSET)) {
+                    readPacked(record + RECORD_HEADER_BYTES + 8 * meetingCount, freeCount, availableLists[index]);
+                }
+            } while (!validateRead(record, version));
+        }
+
+        Intervals.intersectAll(availableLists, userIds.length, meetingLength, workspace.jointPeriods);
+        Intervals.adjustToCommonMeetingHours(workspace.jointPeriods, meetingLength, workspace.possibleMeetings);
+        return workspace.possibleMeetings.toPeriods();
+    }
+
+    // writes the mapping back to the file, the operating system does it on its own anyway
+    void force() {
+        mapping.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private void writeRecord(int record, Calendar calendar, IntervalBuffer meetings, IntervalBuffer freePeriods) {
+        mapping.putInt(record + WORK_START_OFFSET, calendar.getWorkStart());
+        mapping.putInt(record + WORK_END_OFFSET, calendar.getWorkEnd());
+        mapping.putInt(record + MEETING_COUNT_OFFSET, meetings.size());
+        mapping.putInt(record + FREE_COUNT_OFFSET, freePeriods.size());
+        int position = record + RECORD_HEADER_BYTES;
+        for (int index = 0; index < meetings.size(); index++, position += 8) {
+            mapping.putLong(position, meetings.packed(index));
+        }
+        for (int index = 0; index < freePeriods.size(); index++, position += 8) {
+            mapping.putLong(position, freePeriods.packed(index));
+        }
+    }
+
+    // even version of the record once no rewrite is in progress, the copy that follows may still be torn
+    private int beginRead(int record) {
+        while (true) {
+            int version = (int) INTS.getAcquire(mapping, record);
+            if ((version & 1) == 0) {
+                return version;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    // true when the record was not rewritten while it was copied
+    private boolean validateRead(int record, int version) {
+        VarHandle.loadLoadFence();
+        return mapping.getInt(record) == version;
+    }
+
+    private void readPacked(int position, int count, IntervalBuffer periods) {
+        for (int index = 0; index < count; index++, position += 8) {
+            periods.addPacked(mapping.getLong(position));
+        }
+    }
+
+    private int recordOffset(long userId) {
+        if (size == 0) {
+            return 0;
+        }
+        return (int) slotRecord(findSlot(userId));
+    }
+
+    // record offset of the slot, 0 for an empty slot, everything written before it was published is visible
+    private long slotRecord(int slot) {
+        return (long) LONGS.getAcquire(mapping, slotPosition(slot) + 8);
+    }
+
+    // slot of the user, or the empty slot where the user would be added
+    private int findSlot(long userId) {
+        int slot = hash(userId) & slotMask;
+        while (true) {
+            if (slotRecord(slot) == 0 || mapping.getLong(slotPosition(slot)) == userId) {
+                return slot;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+    }
+
+    private int slotPosition(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    private static int hash(long userId) {
+        long mixed = userId * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    // at most half of the slots are used, so probe sequences stay short
+    private static int slotCount(int maxUsers) {
+        return Math.max(2, Integer.highestOneBit(Math.max(1, maxUsers) * 2 - 1) << 1);
+    }
+
+    private static long layoutSize(int maxUsers, int dataBytes) {
+        return HEADER_BYTES + (long) slotCount(maxUsers) * SLOT_BYTES + dataBytes;
+    }
+}
@@ -0,0 +1,210 @@
+package io.meeting;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// places a batch of meetings one after another, each at the start of the first proposal for its attendees,
+// the same as proposing, booking the first proposal and proposing again for the next meeting, but the free time
+// of every attendee is read once into a sorted list that is split where a meeting is placed, so nothing is
+// rebuilt between placements, the earliest time that suits everybody is found by leapfrogging: every attendee
+// in turn moves the candidate start to their next free period long enough, until all of them agree on it,
+// placed meetings are added to the calendars of the attendees
+final class MeetingPlanner {
+
+    private MeetingPlanner() {
+    }
+
+    // requests are placed in the given order, calendars shared by requests see the meetings placed before
+    static Plan plan(List<MeetingRequest> requests) {
+        long startNanos = System.nanoTime();
+        Map<Calendar, FreeTime> freeTime = new IdentityHashMap<>();
+        Period[] placements = new Period[requests.size()];
+        FreeTime[] attendees = new FreeTime[16];
+        int placed = 0;
+
+        for (int index = 0; index < requests.size(); index++) {
+            MeetingRequest request = requests.get(index);
+            int attendeeCount = 0;
+            for (Calendar calendar : request.getCalendars()) {
+                FreeTime attendee = freeTime.computeIfAbsent(calendar, FreeTime::new);
+                // a calendar listed twice in one request attends once
+                if (attendee.lastRequest == index) {
+                    continue;
+                }
+                attendee.lastRequest = index;
+                if (attendeeCount == attendees.length) {
+                    attendees = Arrays.copyOf(attendees, attendeeCount * 2);
+                }
+                attendees[attendeeCount++] = attendee;
+            }
+
+            int start = earliestStart(attendees, attendeeCount, request.getMeetingLength());
+            if (start < 0) {
+                continue;
+            }
+            int end = start + request.getMeetingLength();
+            for (int attendee = 0; attendee < attendeeCount; attendee++) {
+                attendees[attendee].occupy(start, end);
+                attendees[attendee].calendar.addMeeting(start, end);
+            }
+            placements[index] = new Period(IntervalBuffer.toLocalTime(start), IntervalBuffer.toLocalTime(end));
+            placed++;
+        }
+        return new Plan(placements, placed, System.nanoTime() - startNanos);
+    }
+
+    // start of the first proposal for the attendees, adjusted like proposals are, or -1 when there is none
+    private static int earliestStart(FreeTime[] attendees, int attendeeCount, int meetingLength) {
+        if (attendeeCount == 0) {
+            return -1;
+        }
+        int candidate = Integer.MIN_VALUE;
+        int agreed = 0;
+        for (int attendee = 0; agreed < attendeeCount; attendee = (attendee + 1) % attendeeCount) {
+            int start = attendees[attendee].earliestStart(candidate, meetingLength);
+            if (start < 0) {
+                return -1;
+            }
+            if (start == candidate) {
+                agreed++;
+            } else {
+                candidate = start;
+                agreed = 1;
+            }
+        }
+
+        // everybody is free from the candidate on, the joint period ends where the first of them gets busy
+        int jointEnd = Integer.MAX_VALUE;
+        for (int attendee = 0; attendee < attendeeCount; attendee++) {
+            jointEnd = Math.min(jointEnd, attendees[attendee].endOfPeriodAt(candidate));
+        }
+        return Intervals.adjustedStart(candidate, jointEnd, meetingLength);
+    }
+
+    // free periods of one attendee in start order, a calendar has a few dozen of them at most,
+    // so they are kept in plain arrays, searched by bisection and split in place
+    private static final class FreeTime {
+        private final Calendar calendar;
+        private int[] starts;
+        private int[] ends;
+        private int size;
+        // position of the last request this attendee was counted in
+        private int lastRequest = -1;
+
+        FreeTime(Calendar calendar) {
+            this.calendar = calendar;
+            IntervalBuffer unoccupied = calendar.getUnoccupiedMinutes();
+            this.size = unoccupied.size();
+            this.starts = new int[size + 4];
+            this.ends = new int[size + 4];
+            for (int index = 0; index < size; index++) {
+                starts[index] = unoccupied.start(index);
+                ends[index] = unoccupied.end(index);
+            }
+        }
+
+        // earliest start at or after from with meetingLength free minutes after it, or -1 when there is none
+        int earliestStart(int from, int meetingLength) {
+            int index = periodAt(from);
+            if (index >= 0 && ends[index] - from >= meetingLength) {
+                return from;
+            }
+            for (index++; index < size; index++) {
+                if (ends[index] - starts[index] >= meetingLength) {
+                    return starts[index];
+                }
+            }
+            return -1;
+        }
+
+        // end of the free period that time lies in
+        int endOfPeriodAt(int time) {
+            return ends[periodAt(time)];
+        }
+
+        // [start, end) lies inside one free period, which is split around it
+        void occupy(int start, int end) {
+            int index = periodAt(start);
+            int periodStart = starts[index];
+            int periodEnd = ends[index];
+            boolean keepBefore = periodStart < start;
+            boolean keepAfter = end < periodEnd;
+            if (keepBefore && keepAfter) {
+                if (size == starts.length) {
+                    starts = Arrays.copyOf(starts, size * 2);
+                    ends = Arrays.copyOf(ends, size * 2);
+                }
+                System.arraycopy(starts, index + 1, starts, index + 2, size - index - 1);
+                System.arraycopy(ends, index + 1, ends, index + 2, size - index - 1);
+                ends[index] = start;
+                starts[index + 1] = end;
+                ends[index + 1] = periodEnd;
+                size++;
+            } else if (keepBefore) {
+                ends[index] = start;
+            } else if (keepAfter) {
+                starts[index] = end;
+            } else {
+                System.arraycopy(starts, index + 1, starts, index, size - index - 1);
+                System.arraycopy(ends, index + 1, ends, index, size - index - 1);
+                size--;
+            }
+        }
+
+        // index of the last period starting at or before time, -1 when there is none
+        private int periodAt(int time) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (starts[middle] <= time) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low - 1;
+        }
+    }
+
+    static final class Plan {
+        private final Period[] placements;
+        private final int placed;
+        private final long elapsedNanos;
+
+        Plan(Period[] placements, int placed, long elapsedNanos) {
+            this.placements = placements;
+            this.placed = placed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        // the meeting placed for the request at this position, null when its attendees had no time left
+        Period getPlacement(int request) {
+            return placements[request];
+        }
+
+        int getRequests() {
+            return placements.length;
+        }
+
+        int getPlaced() {
+            return placed;
+        }
+
+        long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        double getMeetingsPerSecond() {
+            return elapsedNanos == 0 ? 0 : placements.length * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Placed %d of %d meetings in %.3f ms, %.0f meetings/s",
+                    placed, placements.length, elapsedNanos / 1_000_000.0, getMeetingsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.meeting;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// calendars of all attendees and the meeting duration, read from
+// {"calendars": [calendar, ...], "meeting_duration": "[hh:mm]"}
+final class MeetingRequest {
+
+    private final List<Calendar> calendars;
+    private final int meetingLength;
+
+    MeetingRequest(List<Calendar> calendars, int meetingLength) {
+        this.calendars = calendars;
+        this.meetingLength = meetingLength;
+    }
+
+    List<Calendar> getCalendars() {
+        return calendars;
+    }
+
+    int getMeetingLength() {
+        return meetingLength;
+    }
+
+    List<Period> proposePossibleMeetings() {
+        return Calendar.proposePossibleMeetings(calendars, meetingLength);
+    }
+
+    static MeetingRequest parseJson(String json) throws IOException {
+        long startNanos = SolverMetrics.startTimer();
+        try (JsonParser parser = CalendarReader.createParser(json)) {
+            parser.nextToken();
+            return read(parser);
+        } catch (IOException e) {
+            SolverMetrics.countFailedParse();
+            throw e;
+        } finally {
+            SolverMetrics.stopTimer(SolverMetrics.Phase.PARSE, startNanos);
+        }
+    }
+
+    // the stream belongs to the caller and is not closed
+    static MeetingRequest parseJson(InputStream input) throws IOException {
+        long startNanos = SolverMetrics.startTimer();
+        try (JsonParser parser = CalendarReader.createParser(input)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            parser.nextToken();
+            return read(parser);
+        } catch (IOException e) {
+            SolverMetrics.countFailedParse();
+            throw e;
+        } finally {
+            SolverMetrics.stopTimer(SolverMetrics.Phase.PARSE, startNanos);
+        }
+    }
+
+    // reads the request object the parser currently points at
+    static MeetingRequest read(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Meeting request has to be an object");
+        }
+        List<Calendar> calendars = new ArrayList<>();
+        int meetingLength = -1;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if ("calendars".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    calendars.add(CalendarReader.readCalendar(parser));
+                }
+                if (parser.currentToken() != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, "Expected " + JsonToken.END_ARRAY + " but found "
+                            + parser.currentToken());
+                }
+            } else if ("meeting_duration".equals(field) && value == JsonToken.VALUE_STRING) {
+                meetingLength = parseMeetingDuration(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (calendars.isEmpty() || meetingLength <= 0) {
+            throw new JsonParseException(parser, "Meeting request needs calendars and a positive meeting_duration");
+        }
+        return new MeetingRequest(calendars, meetingLength);
+    }
+
+    private static int parseMeetingDuration(JsonParser parser) throws IOException {
+        try {
+            return Calendar.parseMeetingDuration(parser.getText());
+        } catch (RuntimeException e) {
+            throw new JsonParseException(parser, "Meeting duration has to be in [hh:mm] format");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.meeting;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// lock free histogram with one bucket per power of two, recording is a few atomic increments
+// and never allocates, percentiles are reported as the upper bound of their bucket, so they are at most 2x off
+final class MetricsHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long value) {
+        long positive = Math.max(value, 0);
+        buckets.incrementAndGet(bucket(positive));
+        count.incrementAndGet();
+        sum.addAndGet(positive);
+
+        long currentMax = max.get();
+        while (positive > currentMax && !max.compareAndSet(currentMax, positive)) {
+            currentMax = max.get();
+        }
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    long getMax() {
+        return max.get();
+    }
+
+    double getMean() {
+        long total = count.get();
+        return total == 0 ? 0 : (double) sum.get() / total;
+    }
+
+    // smallest bucket bound that covers the given fraction of recorded values, never more than the maximum
+    long getPercentile(double fraction) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long needed = (long) Math.ceil(fraction * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets.get(bucket);
+            if (seen >= needed) {
+                return Math.min(upperBound(bucket), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    // counts per bucket, bucket i holds values below 2^i and at least 2^(i-1)
+    long[] getBuckets() {
+        long[] snapshot = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            snapshot[bucket] = buckets.get(bucket);
+        }
+        return snapshot;
+    }
+
+    void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            buckets.set(bucket, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    private static int bucket(long value) {
+        return Math.min(BUCKETS - Long.numberOfLeadingZeros(value), BUCKETS - 1);
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
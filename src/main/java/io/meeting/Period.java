@@ -4,7 +4,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import java.time.Duration;
 import java.time.LocalTime;
 import java.util.*;
 
@@ -35,10 +34,6 @@ public class Period {
         return endTime;
     }
 
-    private long getLength() {
-        return Duration.between(startTime, endTime).toMinutes();
-    }
-
     boolean checkIfPeriodsOverlap(Period secondPeriod) {
 
         LocalTime periodTwoStart = secondPeriod.getStartTime();
@@ -52,54 +47,38 @@ public class Period {
 
     static List<Period> proposeMeetingTime(List<Period> availableListOne,
                                            List<Period> availableListTwo, int meetingLength) {
+        Intervals.Workspace workspace = Intervals.workspace();
+        workspace.clear();
 
-        List<Period> possibleToSchedule = getPeriodsAvailableForMeetingAndLongEnough(availableListOne,
-                availableListTwo,
-                meetingLength);
+        workspace.availableOne.addPeriods(availableListOne);
+        workspace.availableOne.sortByStart();
+        workspace.availableTwo.addPeriods(availableListTwo);
+        workspace.availableTwo.sortByStart();
 
-        List<Period> possibleMeetings = adjustPeriodsToCommonMeetingHoursIfPossible(possibleToSchedule,
-                meetingLength);
+        Intervals.intersect(workspace.availableOne, workspace.availableTwo, meetingLength,
+                workspace.jointPeriods);
+        Intervals.adjustToCommonMeetingHours(workspace.jointPeriods, meetingLength,
+                workspace.possibleMeetings);
 
-        possibleMeetings.sort(new MyPeriodComparator());
-        return possibleMeetings;
+        return workspace.possibleMeetings.toPeriods();
     }
 
-    private static List<Period> getPeriodsAvailableForMeetingAndLongEnough(List<Period> availableListOne,
-                                                                           List<Period> availableListTwo, int meetingLength) {
-        List<Period> possibleToSchedule = new ArrayList<>();
-        for (Period period : availableListOne) {
-            if (period.getLength() >= meetingLength) {
-                for (Period correspondingPeriod : availableListTwo) {
-                    Period jointPeriod = period.calculateJointPeriod(correspondingPeriod);
-                    if (jointPeriod != null && jointPeriod.getLength() >= meetingLength) {
-                        possibleToSchedule.add(jointPeriod);
-                    }
-                }
-            }
-        }
-        return possibleToSchedule;
-    }
+    static List<Period> proposeMeetingTime(List<List<Period>> availableLists, int meetingLength) {
+        Intervals.Workspace workspace = Intervals.workspace();
+        workspace.clear();
 
-    private static List<Period> adjustPeriodsToCommonMeetingHoursIfPossible(List<Period> possibleToSchedule,
-                                                                            int meetingLength) {
-
-        List<Period> possibleMeetings = new ArrayList<>();
-
-        for (Period period : possibleToSchedule) {
-            Period rounded = period.roundToEvenHour();
-            if (rounded.getLength() < meetingLength) {
-                possibleMeetings.add(new Period(period.getStartTime(), period.getStartTime().plusMinutes(meetingLength)));
-            } else {
-                int numberOfPossibleMeetings = (int) (rounded.getLength() / meetingLength);
-                LocalTime start = rounded.getStartTime();
-                LocalTime end = rounded.getStartTime().plusMinutes(numberOfPossibleMeetings * meetingLength);
-                if (rounded.getLength() > meetingLength) {
-                    end = rounded.getEndTime();
-                }
-                possibleMeetings.add(new Period(start, end));
-            }
+        IntervalBuffer[] buffers = workspace.availableLists(availableLists.size());
+        for (int index = 0; index < availableLists.size(); index++) {
+            buffers[index].clear();
+            buffers[index].addPeriods(availableLists.get(index));
+            buffers[index].sortByStart();
         }
-        return possibleMeetings;
+
+        Intervals.intersectAll(buffers, availableLists.size(), meetingLength, workspace.jointPeriods);
+        Intervals.adjustToCommonMeetingHours(workspace.jointPeriods, meetingLength,
+                workspace.possibleMeetings);
+
+        return workspace.possibleMeetings.toPeriods();
     }
 
     Period calculateJointPeriod(Period secondPeriod) {
@@ -137,24 +116,9 @@ public class Period {
 
 
     Period roundToEvenHour() {
-        LocalTime start = this.getStartTime();
-        LocalTime end = this.getEndTime();
-
-        int startMinutes = start.getMinute();
-        int endMinutes = end.getMinute();
-
-        int startHour = start.getHour();
-        int endHour = end.getHour();
-
-        startMinutes = (int) Math.ceil((double) startMinutes / 5) * 5;
-        endMinutes = (int) Math.floor((double) endMinutes / 5) * 5;
-
-        if (startMinutes == 60) {
-            startHour++;
-            startMinutes = 0;
-        }
-
-        return new Period(LocalTime.of(startHour, startMinutes), LocalTime.of(endHour, endMinutes));
+        int start = Intervals.roundUp(IntervalBuffer.toMinutes(startTime));
+        int end = Intervals.roundDown(IntervalBuffer.toMinutes(endTime));
+        return new Period(IntervalBuffer.toLocalTime(start), IntervalBuffer.toLocalTime(end));
     }
 
     @Override
@@ -162,17 +126,12 @@ public class Period {
         return String.format("[\"%s\", \"%s\"]", startTime.toString(), endTime.toString());
     }
 
+    // by start and then by end, so periods with the same start are ordered too
     static class MyPeriodComparator implements Comparator<Period> {
         @Override
         public int compare(Period p1, Period p2) {
-            if (p1.getStartTime().isBefore(p2.getStartTime())) {
-                return -1;
-            } else if (p1.getStartTime().equals(p2.getStartTime())) {
-                return 0;
-            }
-            return 1;
+            int byStart = p1.getStartTime().compareTo(p2.getStartTime());
+            return byStart != 0 ? byStart : p1.getEndTime().compareTo(p2.getEndTime());
         }
     }
 }
-
-
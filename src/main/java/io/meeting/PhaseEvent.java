@@ -0,0 +1,25 @@
+package io.meeting;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// one solver phase in a flight recording, only created when JFR events of SolverMetrics are switched on
+@Name("io.meeting.Phase")
+@Label("Solver Phase")
+@Category("Meeting Solver")
+@Description("Time spent in one phase of solving a meeting request")
+@StackTrace(false)
+final class PhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long durationNanos;
+}
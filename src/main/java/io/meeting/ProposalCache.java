@@ -0,0 +1,145 @@
+package io.meeting;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+// proposals of repeated requests, like client retries and UI refreshes, a request body seen before is answered
+// without parsing, and a request with the same content in another form, like reordered calendars, reformatted
+// JSON or meetings listed differently, is answered without solving, because the second level is keyed by
+// the free periods of every calendar and the duration, which are all the proposals depend on,
+// eviction is configured with a Guava cache spec like "expireAfterWrite=30s", request bodies vary from a few hundred
+// characters to megabytes and content keys grow with the calendars of a request, so both levels are bounded
+// by the size of what they hold instead of their count, size bounds of the spec are ignored
+final class ProposalCache {
+
+    static final String DEFAULT_SPEC = "expireAfterWrite=30s";
+    // two bytes a character, so bodies take up to 64 MB
+    static final long DEFAULT_MAXIMUM_REQUEST_CHARS = 32L << 20;
+    // eight bytes a long, so content keys take up to 32 MB
+    static final long DEFAULT_MAXIMUM_CONTENT_LONGS = 4L << 20;
+
+    private final Cache<String, List<Period>> byRequest;
+    private final Cache<ContentKey, List<Period>> byContent;
+
+    ProposalCache(String spec) {
+        this(spec, DEFAULT_MAXIMUM_REQUEST_CHARS, DEFAULT_MAXIMUM_CONTENT_LONGS);
+    }
+
+    ProposalCache(String spec, long maximumRequestChars, long maximumContentLongs) {
+        this.byRequest = CacheBuilder.from(withoutSizeBound(spec))
+                .maximumWeight(maximumRequestChars)
+                .weigher((String body, List<Period> possibleMeetings) -> body.length())
+                .recordStats()
+                .build();
+        this.byContent = CacheBuilder.from(withoutSizeBound(spec))
+                .maximumWeight(maximumContentLongs)
+                .weigher((ContentKey key, List<Period> possibleMeetings) -> key.content.length)
+                .recordStats()
+                .build();
+    }
+
+    static ProposalCache withDefaults() {
+        return new ProposalCache(DEFAULT_SPEC);
+    }
+
+    // proposals for a {"calendars": [...], "meeting_duration": "[hh:mm]"} body, incorrect bodies are not cached
+    List<Period> proposePossibleMeetings(String requestJson) throws IOException {
+        List<Period> possibleMeetings = byRequest.getIfPresent(requestJson);
+        if (possibleMeetings == null) {
+            MeetingRequest request = MeetingRequest.parseJson(requestJson);
+            possibleMeetings = proposePossibleMeetings(request.getCalendars(), request.getMeetingLength());
+            byRequest.put(requestJson, possibleMeetings);
+        }
+        return possibleMeetings;
+    }
+
+    // the returned list is shared by every caller with the same content and cannot be modified
+    List<Period> proposePossibleMeetings(Collection<Calendar> calendars, int meetingLength) {
+        try {
+            return byContent.get(ContentKey.of(calendars, meetingLength),
+                    () -> List.copyOf(Calendar.proposePossibleMeetings(calendars, meetingLength)));
+        } catch (UncheckedExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    CacheStats getRequestStats() {
+        return byRequest.stats();
+    }
+
+    CacheStats getContentStats() {
+        return byContent.stats();
+    }
+
+    void invalidateAll() {
+        byRequest.invalidateAll();
+        byContent.invalidateAll();
+    }
+
+    // the spec without maximumSize and maximumWeight, which cannot be combined with a weigher
+    private static String withoutSizeBound(String spec) {
+        return Arrays.stream(spec.split(","))
+                .filter(option -> !option.trim().startsWith("maximumSize") && !option.trim().startsWith("maximumWeight"))
+                .collect(Collectors.joining(","));
+    }
+
+    // duration followed by the free periods of every calendar in packed form, each list prefixed by its size,
+    // calendars are sorted by their free periods, so the order they were sent in does not matter
+    static final class ContentKey {
+        private final long[] content;
+        private final int hash;
+
+        private ContentKey(long[] content) {
+            this.content = content;
+            this.hash = Arrays.hashCode(content);
+        }
+
+        static ContentKey of(Collection<Calendar> calendars, int meetingLength) {
+            long[][] freePeriods = new long[calendars.size()][];
+            int length = 1;
+            int index = 0;
+            for (Calendar calendar : calendars) {
+                IntervalBuffer free = calendar.getUnoccupiedMinutes();
+                long[] packed = new long[free.size()];
+                for (int period = 0; period < packed.length; period++) {
+                    packed[period] = free.packed(period);
+                }
+                freePeriods[index++] = packed;
+                length += 1 + packed.length;
+            }
+            Arrays.sort(freePeriods, Arrays::compare);
+
+            long[] content = new long[length];
+            content[0] = meetingLength;
+            int position = 1;
+            for (long[] packed : freePeriods) {
+                content[position++] = packed.length;
+                System.arraycopy(packed, 0, content, position, packed.length);
+                position += packed.length;
+            }
+            return new ContentKey(content);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ContentKey && hash == ((ContentKey) other).hash
+                    && Arrays.equals(content, ((ContentKey) other).content);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
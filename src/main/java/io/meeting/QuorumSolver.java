@@ -0,0 +1,164 @@
+package io.meeting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// windows where at least quorum of the attendees are free, found by one coverage count sweep instead of
+// solving every subset, boundaries of all free periods are sorted once and split the day into segments
+// where the same attendees are free, segments with enough free attendees are kept with a bitset of them,
+// a window is proposed for every group of at least quorum attendees that are free together, as long as that
+// group stays free, so a part of the day where more of them can meet is proposed on its own, next to the
+// longer window around it where fewer can, every proposal can be attended the whole window long by everybody
+// who is not listed as missing, and nobody listed as missing is free for all of it
+final class QuorumSolver {
+
+    private QuorumSolver() {
+    }
+
+    // windows in order of start and then of end
+    static List<QuorumWindow> proposePossibleMeetings(List<Calendar> calendars, int meetingLength, int quorum) {
+        if (quorum < 1 || quorum > calendars.size()) {
+            throw new IllegalArgumentException("Quorum has to be between 1 and the number of attendees");
+        }
+        Segments segments = Segments.of(calendars, quorum);
+        int words = segments.words;
+        List<QuorumWindow> windows = new ArrayList<>();
+        long[] attending = new long[words];
+        long[] candidate = new long[words];
+
+        for (int first = 0; first < segments.count; first++) {
+            segments.copySet(first, attending);
+            int attendingCount = Segments.popCount(attending);
+            for (int last = first; ; last++) {
+                boolean adjacent = last + 1 < segments.count && segments.adjacent(last);
+                int candidateCount = adjacent ? segments.intersect(last + 1, attending, candidate) : 0;
+                if (candidateCount == attendingCount) {
+                    // the same attendees stay free for the next segment
+                    continue;
+                }
+                // the attendees cannot stay longer together, the window is proposed once, from its first segment
+                boolean startsHere = first == 0 || !segments.adjacent(first - 1)
+                        || segments.intersect(first - 1, attending, candidate) < attendingCount;
+                if (startsHere) {
+                    addWindow(segments, first, last, attending, calendars.size(), meetingLength, windows);
+                }
+                if (candidateCount < quorum) {
+                    break;
+                }
+                segments.intersect(last + 1, attending, candidate);
+                System.arraycopy(candidate, 0, attending, 0, words);
+                attendingCount = candidateCount;
+            }
+        }
+        return windows;
+    }
+
+    private static void addWindow(Segments segments, int first, int last, long[] attending,
+                                  int attendeeCount, int meetingLength, List<QuorumWindow> windows) {
+        int start = segments.bounds.start(first);
+        int end = segments.bounds.end(last);
+        if (end - start < meetingLength) {
+            return;
+        }
+        int[] missing = new int[attendeeCount - Segments.popCount(attending)];
+        int missingCount = 0;
+        for (int attendee = 0; attendee < attendeeCount; attendee++) {
+            if ((attending[attendee >>> 6] & (1L << attendee)) == 0) {
+                missing[missingCount++] = attendee;
+            }
+        }
+        Period period = new Period(IntervalBuffer.toLocalTime(Intervals.adjustedStart(start, end, meetingLength)),
+                IntervalBuffer.toLocalTime(Intervals.adjustedEnd(start, end, meetingLength)));
+        windows.add(new QuorumWindow(period, missing));
+    }
+
+    // time segments with at least quorum free attendees, in time order, with the bitset of who is free in each
+    private static final class Segments {
+        private final int words;
+        private final IntervalBuffer bounds = new IntervalBuffer();
+        private long[] sets;
+        private int count;
+
+        private Segments(int words) {
+            this.words = words;
+            this.sets = new long[16 * words];
+        }
+
+        static Segments of(List<Calendar> calendars, int quorum) {
+            int boundaryCount = 0;
+            for (Calendar calendar : calendars) {
+                boundaryCount += 2 * calendar.getUnoccupiedMinutes().size();
+            }
+            // time << 32 | attendee << 1 | 1 for a start of free time, sorting orders them by time
+            long[] boundaries = new long[boundaryCount];
+            int index = 0;
+            for (int attendee = 0; attendee < calendars.size(); attendee++) {
+                IntervalBuffer free = calendars.get(attendee).getUnoccupiedMinutes();
+                for (int period = 0; period < free.size(); period++) {
+                    boundaries[index++] = ((long) free.start(period) << 32) | ((long) attendee << 1) | 1;
+                    boundaries[index++] = ((long) free.end(period) << 32) | ((long) attendee << 1);
+                }
+            }
+            Arrays.sort(boundaries);
+
+            Segments segments = new Segments((calendars.size() + 63) >>> 6);
+            long[] free = new long[segments.words];
+            int freeCount = 0;
+            index = 0;
+            while (index < boundaries.length) {
+                int time = (int) (boundaries[index] >>> 32);
+                for (; index < boundaries.length && (int) (boundaries[index] >>> 32) == time; index++) {
+                    int attendee = (int) boundaries[index] >>> 1;
+                    if ((boundaries[index] & 1) == 1) {
+                        free[attendee >>> 6] |= 1L << attendee;
+                        freeCount++;
+                    } else {
+                        free[attendee >>> 6] &= ~(1L << attendee);
+                        freeCount--;
+                    }
+                }
+                if (index < boundaries.length && freeCount >= quorum) {
+                    segments.add(time, (int) (boundaries[index] >>> 32), free);
+                }
+            }
+            return segments;
+        }
+
+        private void add(int start, int end, long[] free) {
+            if (sets.length < (count + 1) * words) {
+                sets = Arrays.copyOf(sets, sets.length * 2);
+            }
+            System.arraycopy(free, 0, sets, count * words, words);
+            bounds.add(start, end);
+            count++;
+        }
+
+        // segment and the one after it touch, so a window can span both
+        boolean adjacent(int segment) {
+            return bounds.end(segment) == bounds.start(segment + 1);
+        }
+
+        void copySet(int segment, long[] target) {
+            System.arraycopy(sets, segment * words, target, 0, words);
+        }
+
+        // writes attending & set of the segment into result and returns how many are in it
+        int intersect(int segment, long[] attending, long[] result) {
+            int free = 0;
+            for (int word = 0; word < words; word++) {
+                result[word] = attending[word] & sets[segment * words + word];
+                free += Long.bitCount(result[word]);
+            }
+            return free;
+        }
+
+        static int popCount(long[] set) {
+            int count = 0;
+            for (long word : set) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+    }
+}
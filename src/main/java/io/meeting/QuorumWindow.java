@@ -0,0 +1,29 @@
+package io.meeting;
+
+import java.util.Arrays;
+
+// proposal of the quorum mode, attendees are positions of their calendars in the request
+final class QuorumWindow {
+
+    private final Period period;
+    private final int[] missingAttendees;
+
+    QuorumWindow(Period period, int[] missingAttendees) {
+        this.period = period;
+        this.missingAttendees = missingAttendees;
+    }
+
+    Period getPeriod() {
+        return period;
+    }
+
+    // attendees who are not free for the whole window
+    int[] getMissingAttendees() {
+        return missingAttendees.clone();
+    }
+
+    @Override
+    public String toString() {
+        return period + " missing " + Arrays.toString(missingAttendees);
+    }
+}
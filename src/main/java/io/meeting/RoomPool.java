@@ -0,0 +1,193 @@
+package io.meeting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// rooms are calendars too, instead of solving the attendees together with every room in turn the joint free time
+// of the attendees is computed once and checked against an index of the rooms, for every 5 minute slot of the day
+// the index keeps a bitset of rooms free for the whole slot, a room can only hold a meeting inside a window
+// when it is free for enough consecutive slots in it, so the candidates of a window are found by AND and OR
+// of the bitsets and only they are intersected with the window minute by minute,
+// rooms are reindexed when their calendar version changes
+final class RoomPool {
+
+    private static final int SLOT_MINUTES = AvailabilityBitmap.SLOT_MINUTES;
+    private static final int SLOTS = AvailabilityBitmap.SLOTS;
+
+    private final String[] names;
+    private final Calendar[] rooms;
+    private final int[] roomVersions;
+    private final int words;
+    // words bits per slot, bit r of slot s is set when room r is free for all of [5s, 5s + 5)
+    private final long[] freeRooms;
+
+    private long examinedRooms;
+
+    // rooms by name, in the order their proposals are listed
+    RoomPool(Map<String, Calendar> rooms) {
+        this.names = rooms.keySet().toArray(new String[0]);
+        this.rooms = rooms.values().toArray(new Calendar[0]);
+        this.roomVersions = new int[this.rooms.length];
+        this.words = Math.max(1, (this.rooms.length + 63) >>> 6);
+        this.freeRooms = new long[SLOTS * words];
+
+        for (int room = 0; room < this.rooms.length; room++) {
+            index(room);
+        }
+    }
+
+    int getRoomCount() {
+        return rooms.length;
+    }
+
+    // rooms intersected minute by minute with the attendees so far, the rest was pruned by the index
+    synchronized long getExaminedRooms() {
+        return examinedRooms;
+    }
+
+    // every meeting time that suits the attendees and one of the rooms, the same proposals as solving
+    // the attendees with each room, ordered by start time and then by room
+    synchronized List<RoomProposal> proposePossibleMeetings(Collection<Calendar> attendees, int meetingLength) {
+        refresh();
+        List<RoomProposal> proposals = new ArrayList<>();
+        IntervalBuffer windows = jointFreeTime(attendees, meetingLength);
+
+        // an interval of length L contains at least (L - 4) / 5 whole slots, wherever it starts
+        int neededSlots = Math.max(0, (meetingLength - SLOT_MINUTES + 1) / SLOT_MINUTES);
+        long[] candidates = new long[words];
+        long[] run = new long[words];
+        IntervalBuffer roomPeriods = new IntervalBuffer();
+
+        for (int window = 0; window < windows.size(); window++) {
+            int start = windows.start(window);
+            int end = windows.end(window);
+            if (!findCandidates(start, end, neededSlots, candidates, run)) {
+                continue;
+            }
+            for (int word = 0; word < words; word++) {
+                for (long bits = candidates[word]; bits != 0; bits &= bits - 1) {
+                    int room = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    examinedRooms++;
+                    roomPeriods.clear();
+                    intersectWindow(rooms[room].getUnoccupiedMinutes(), start, end, meetingLength, roomPeriods);
+                    for (int index = 0; index < roomPeriods.size(); index++) {
+                        proposals.add(proposal(roomPeriods.start(index), roomPeriods.end(index), meetingLength, room));
+                    }
+                }
+            }
+        }
+        // windows come in time order and rooms in pool order inside a window, the stable sort keeps the room order
+        proposals.sort(Comparator.comparing(proposal -> proposal.getPeriod().getStartTime()));
+        return proposals;
+    }
+
+    private IntervalBuffer jointFreeTime(Collection<Calendar> attendees, int meetingLength) {
+        Intervals.Workspace workspace = Intervals.workspace();
+        IntervalBuffer[] availableLists = workspace.sharedLists(attendees.size());
+        int listCount = 0;
+        for (Calendar attendee : attendees) {
+            availableLists[listCount++] = attendee.getUnoccupiedMinutes();
+        }
+        IntervalBuffer windows = new IntervalBuffer();
+        Intervals.intersectAll(availableLists, listCount, meetingLength, windows);
+        workspace.releaseSharedLists(listCount);
+        return windows;
+    }
+
+    // rooms free for neededSlots consecutive whole slots inside the window, false when there are none
+    private boolean findCandidates(int start, int end, int neededSlots, long[] candidates, long[] run) {
+        int firstSlot = (start + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        int endSlot = Math.min(SLOTS, end / SLOT_MINUTES);
+        boolean found = false;
+
+        if (neededSlots == 0) {
+            // meetings shorter than two slots may fit between slot boundaries, so nothing can be pruned
+            for (int word = 0; word < words; word++) {
+                candidates[word] = word == words - 1 ? lastWordMask() : -1L;
+            }
+            return rooms.length > 0;
+        }
+        Arrays.fill(candidates, 0L);
+        for (int slot = firstSlot; slot + neededSlots <= endSlot; slot++) {
+            System.arraycopy(freeRooms, slot * words, run, 0, words);
+            long any = 0;
+            for (int next = 1; next < neededSlots; next++) {
+                any = 0;
+                for (int word = 0; word < words; word++) {
+                    run[word] &= freeRooms[(slot + next) * words + word];
+                    any |= run[word];
+                }
+                if (any == 0) {
+                    break;
+                }
+            }
+            for (int word = 0; word < words; word++) {
+                candidates[word] |= run[word];
+                found |= run[word] != 0;
+            }
+        }
+        return found;
+    }
+
+    // parts of the room's free periods inside [start, end) that are long enough, the periods are sorted
+    private static void intersectWindow(IntervalBuffer freePeriods, int start, int end, int meetingLength,
+                                        IntervalBuffer jointPeriods) {
+        int low = 0;
+        int high = freePeriods.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (freePeriods.end(middle) <= start) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int index = low; index < freePeriods.size() && freePeriods.start(index) < end; index++) {
+            int jointStart = Math.max(start, freePeriods.start(index));
+            int jointEnd = Math.min(end, freePeriods.end(index));
+            if (jointEnd - jointStart >= meetingLength) {
+                jointPeriods.add(jointStart, jointEnd);
+            }
+        }
+    }
+
+    private RoomProposal proposal(int start, int end, int meetingLength, int room) {
+        Period period = new Period(IntervalBuffer.toLocalTime(Intervals.adjustedStart(start, end, meetingLength)),
+                IntervalBuffer.toLocalTime(Intervals.adjustedEnd(start, end, meetingLength)));
+        return new RoomProposal(period, names[room]);
+    }
+
+    private void refresh() {
+        for (int room = 0; room < rooms.length; room++) {
+            if (rooms[room].getVersion() != roomVersions[room]) {
+                index(room);
+            }
+        }
+    }
+
+    private void index(int room) {
+        roomVersions[room] = rooms[room].getVersion();
+        int word = room >>> 6;
+        long bit = 1L << room;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            freeRooms[slot * words + word] &= ~bit;
+        }
+        IntervalBuffer freePeriods = rooms[room].getUnoccupiedMinutes();
+        for (int index = 0; index < freePeriods.size(); index++) {
+            int firstSlot = (freePeriods.start(index) + SLOT_MINUTES - 1) / SLOT_MINUTES;
+            int endSlot = Math.min(SLOTS, freePeriods.end(index) / SLOT_MINUTES);
+            for (int slot = firstSlot; slot < endSlot; slot++) {
+                freeRooms[slot * words + word] |= bit;
+            }
+        }
+    }
+
+    private long lastWordMask() {
+        int used = rooms.length & 63;
+        return used == 0 ? -1L : (1L << used) - 1;
+    }
+}
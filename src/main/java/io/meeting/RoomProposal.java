@@ -0,0 +1,26 @@
+package io.meeting;
+
+// meeting time that suits all attendees together with the room it can take place in
+final class RoomProposal {
+
+    private final Period period;
+    private final String room;
+
+    RoomProposal(Period period, String room) {
+        this.period = period;
+        this.room = room;
+    }
+
+    Period getPeriod() {
+        return period;
+    }
+
+    String getRoom() {
+        return room;
+    }
+
+    @Override
+    public String toString() {
+        return room + " " + period;
+    }
+}
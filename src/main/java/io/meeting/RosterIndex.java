@@ -0,0 +1,207 @@
+package io.meeting;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// who of many people is free for a whole window, instead of checking every meeting of every person,
+// the index keeps for every 5 minute slot of the day a bitset of people free for the whole slot,
+// a window on the slot grid is answered by ANDing the bitsets of its slots, 5,000 people take 79 words a slot,
+// the slots cut by a window that is off the grid only narrow the candidates down, which are then checked
+// against their free periods, a changed calendar marks its person dirty and only dirty people are reindexed,
+// into a copy of the bitsets that replaces them, so queries AND the bitsets of a snapshot without a lock,
+// the calendars keep the index reachable through their change listeners until it is closed
+final class RosterIndex implements Closeable {
+
+    private static final int SLOT_MINUTES = AvailabilityBitmap.SLOT_MINUTES;
+    private static final int SLOTS = AvailabilityBitmap.SLOTS;
+
+    private final String[] names;
+    private final Calendar[] people;
+    private final Runnable[] changeListeners;
+    private final int words;
+    // bit p is set when the calendar of person p changed since it was last indexed
+    private final AtomicLongArray dirtyPeople;
+    private volatile boolean dirty;
+    // words bits per slot, bit p of slot s is set when person p is free for all of [5s, 5s + 5),
+    // never modified once published, a refresh publishes a new array
+    private volatile long[] freePeople;
+    private volatile boolean closed;
+
+    // people by name, the order of names is the order of bits in the returned sets
+    RosterIndex(Map<String, Calendar> people) {
+        this.names = people.keySet().toArray(new String[0]);
+        this.people = people.values().toArray(new Calendar[0]);
+        this.words = Math.max(1, (this.people.length + 63) >>> 6);
+        this.dirtyPeople = new AtomicLongArray(words);
+        this.changeListeners = new Runnable[this.people.length];
+
+        long[] index = new long[SLOTS * words];
+        for (int person = 0; person < this.people.length; person++) {
+            int changed = person;
+            // registered before indexing, so a change made meanwhile is indexed again on the next query
+            changeListeners[person] = () -> markDirty(changed);
+            this.people[person].addChangeListener(changeListeners[person]);
+            index(person, index);
+        }
+        this.freePeople = index;
+    }
+
+    int getPeopleCount() {
+        return people.length;
+    }
+
+    String getName(int person) {
+        return names[person];
+    }
+
+    // names of the people free for the whole window, in index order
+    List<String> whoIsFree(Period window) {
+        BitSet free = freeSet(window);
+        List<String> freeNames = new ArrayList<>(free.cardinality());
+        for (int person = free.nextSetBit(0); person >= 0; person = free.nextSetBit(person + 1)) {
+            freeNames.add(names[person]);
+        }
+        return freeNames;
+    }
+
+    int countFree(Period window) {
+        long[] free = freeWords(IntervalBuffer.toMinutes(window.getStartTime()),
+                IntervalBuffer.toMinutes(window.getEndTime()));
+        int count = 0;
+        for (long word : free) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // positions of the people free for the whole window, see getName
+    BitSet freeSet(Period window) {
+        return BitSet.valueOf(freeWords(IntervalBuffer.toMinutes(window.getStartTime()),
+                IntervalBuffer.toMinutes(window.getEndTime())));
+    }
+
+    // removes the change listeners, so an index replaced by a rebuilt one is not kept by the calendars,
+    // a closed index no longer follows changes and rejects queries
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (int person = 0; person < people.length; person++) {
+            people[person].removeChangeListener(changeListeners[person]);
+        }
+    }
+
+    private long[] freeWords(int start, int end) {
+        if (closed) {
+            throw new IllegalStateException("Roster index is closed");
+        }
+        if (end <= start) {
+            throw new IllegalArgumentException("Window has to end after it starts");
+        }
+        long[] freePeople = dirty ? refresh() : this.freePeople;
+        long[] free = new long[words];
+        int firstSlot = (start + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        int endSlot = Math.min(SLOTS, end / SLOT_MINUTES);
+
+        if (firstSlot < endSlot) {
+            System.arraycopy(freePeople, firstSlot * words, free, 0, words);
+            for (int slot = firstSlot + 1; slot < endSlot; slot++) {
+                long any = 0;
+                for (int word = 0; word < words; word++) {
+                    free[word] &= freePeople[slot * words + word];
+                    any |= free[word];
+                }
+                if (any == 0) {
+                    return free;
+                }
+            }
+        } else if (people.length > 0) {
+            // a window inside one slot cannot be answered from whole slots, everybody is a candidate
+            for (int word = 0; word < words; word++) {
+                free[word] = word == words - 1 ? lastWordMask() : -1L;
+            }
+        }
+
+        if (start % SLOT_MINUTES != 0 || end % SLOT_MINUTES != 0 || firstSlot >= endSlot) {
+            for (int word = 0; word < words; word++) {
+                for (long bits = free[word]; bits != 0; bits &= bits - 1) {
+                    int person = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    if (!isFree(people[person].getUnoccupiedMinutes(), start, end)) {
+                        free[word] &= ~(1L << person);
+                    }
+                }
+            }
+        }
+        return free;
+    }
+
+    // one of the sorted free periods holds all of [start, end)
+    private static boolean isFree(IntervalBuffer freePeriods, int start, int end) {
+        int low = 0;
+        int high = freePeriods.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (freePeriods.start(middle) <= start) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low > 0 && freePeriods.end(low - 1) >= end;
+    }
+
+    // called by a calendar while it is locked, so it only sets a bit
+    private void markDirty(int person) {
+        int word = person >>> 6;
+        long bit = 1L << person;
+        long old;
+        do {
+            old = dirtyPeople.get(word);
+        } while ((old & bit) == 0 && !dirtyPeople.compareAndSet(word, old, old | bit));
+        dirty = true;
+    }
+
+    // reindexes the dirty people into a copy of the bitsets and publishes it, changes made while copying
+    // set their bits again and are picked up by the next query
+    private synchronized long[] refresh() {
+        if (!dirty) {
+            return freePeople;
+        }
+        dirty = false;
+        long[] index = freePeople.clone();
+        for (int word = 0; word < words; word++) {
+            for (long bits = dirtyPeople.getAndSet(word, 0); bits != 0; bits &= bits - 1) {
+                index(word * Long.SIZE + Long.numberOfTrailingZeros(bits), index);
+            }
+        }
+        freePeople = index;
+        return index;
+    }
+
+    private void index(int person, long[] freePeople) {
+        int word = person >>> 6;
+        long bit = 1L << person;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            freePeople[slot * words + word] &= ~bit;
+        }
+        IntervalBuffer freePeriods = people[person].getUnoccupiedMinutes();
+        for (int index = 0; index < freePeriods.size(); index++) {
+            int firstSlot = (freePeriods.start(index) + SLOT_MINUTES - 1) / SLOT_MINUTES;
+            int endSlot = Math.min(SLOTS, freePeriods.end(index) / SLOT_MINUTES);
+            for (int slot = firstSlot; slot < endSlot; slot++) {
+                freePeople[slot * words + word] |= bit;
+            }
+        }
+    }
+
+    private long lastWordMask() {
+        int used = people.length & 63;
+        return used == 0 ? -1L : (1L << used) - 1;
+    }
+}
@@ -0,0 +1,112 @@
+package io.meeting;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// meeting requests over HTTP on the JDK built-in server, POST /meetings takes the same
+// {"calendars": [...], "meeting_duration": "[hh:mm]"} body the batch mode reads and answers with the proposals,
+// every exchange runs on its own virtual thread when the runtime has them and on a pool of platform threads otherwise
+final class SchedulingServer {
+
+    static final String MEETINGS_PATH = "/meetings";
+
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final int BACKLOG = 4096;
+    private static final byte[] INCORRECT_JSON = "{\"error\": \"Incorrect JSON format\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NOT_SOLVED = "{\"error\": \"Request could not be solved\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private SchedulingServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    // port 0 picks any free port, see getPort
+    static SchedulingServer start(int port) throws IOException {
+        return start(port, null);
+    }
+
+    // repeated requests are answered from the cache when one is given
+    static SchedulingServer start(int port, ProposalCache cache) throws IOException {
+        // small responses on kept alive connections otherwise wait for delayed acks, it is read once per JVM
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        ExecutorService executor = newHandlerExecutor();
+        server.createContext(MEETINGS_PATH, exchange -> handleMeetings(exchange, cache));
+        server.setExecutor(executor);
+        server.start();
+        return new SchedulingServer(server, executor);
+    }
+
+    int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void handleMeetings(HttpExchange exchange, ProposalCache cache) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            int status = 200;
+            byte[] body;
+            try (InputStream input = exchange.getRequestBody()) {
+                List<Period> possibleMeetings = cache == null ? MeetingRequest.parseJson(input).proposePossibleMeetings()
+                        : cache.proposePossibleMeetings(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+                body = possibleMeetings.toString().getBytes(StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                status = 400;
+                body = INCORRECT_JSON;
+            } catch (RuntimeException e) {
+                status = 422;
+                body = NOT_SOLVED;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // the build targets Java 11, so virtual threads are looked up at runtime and used from Java 21 on,
+    // solving never blocks, so a platform pool the size of the machine serves the same load on older runtimes
+    static ExecutorService newHandlerExecutor() {
+        try {
+            Method virtualThreads = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) virtualThreads.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        }
+    }
+}
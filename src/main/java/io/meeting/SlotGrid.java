@@ -0,0 +1,80 @@
+package io.meeting;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// grid of allowed meeting starts, like every 5, 10, 15 or 30 minutes of the day, candidate starts are enumerated
+// as plain minutes straight from a joint period sweep, so paging through thousands of them allocates nothing,
+// every candidate is aligned to the grid and the whole meeting fits into one joint period,
+// stepping by meeting length gives back to back candidates instead of every grid point
+final class SlotGrid {
+
+    static final SlotGrid FIVE_MINUTES = new SlotGrid(5);
+    static final SlotGrid TEN_MINUTES = new SlotGrid(10);
+    static final SlotGrid QUARTER_HOURS = new SlotGrid(15);
+    static final SlotGrid HALF_HOURS = new SlotGrid(30);
+
+    private final int minutes;
+
+    SlotGrid(int minutes) {
+        if (minutes < 1 || 24 * 60 % minutes != 0) {
+            throw new IllegalArgumentException("Grid has to divide the day into whole slots");
+        }
+        this.minutes = minutes;
+    }
+
+    int getMinutes() {
+        return minutes;
+    }
+
+    int roundUp(int minute) {
+        return (minute + minutes - 1) / minutes * minutes;
+    }
+
+    int roundDown(int minute) {
+        return minute / minutes * minutes;
+    }
+
+    PrimitiveIterator.OfInt starts(JointPeriodCursor jointPeriods, int meetingLength, boolean stepByMeetingLength) {
+        int step = stepByMeetingLength ? Math.max(minutes, roundUp(meetingLength)) : minutes;
+        return new StartIterator(jointPeriods, meetingLength, step);
+    }
+
+    private final class StartIterator implements PrimitiveIterator.OfInt {
+        private final JointPeriodCursor jointPeriods;
+        private final int meetingLength;
+        private final int step;
+
+        private int next;
+        private int lastStart = -1;
+
+        private StartIterator(JointPeriodCursor jointPeriods, int meetingLength, int step) {
+            this.jointPeriods = jointPeriods;
+            this.meetingLength = meetingLength;
+            this.step = step;
+        }
+
+        @Override
+        public boolean hasNext() {
+            // a joint period without any aligned start that fits is skipped
+            while (next > lastStart) {
+                if (!jointPeriods.next()) {
+                    return false;
+                }
+                next = roundUp(jointPeriods.start());
+                lastStart = jointPeriods.end() - meetingLength;
+            }
+            return true;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int start = next;
+            next += step;
+            return start;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.meeting;
+
+// how joint free time of many calendars is found
+enum SolverBackend {
+    // sweep over sorted free periods, exact to the minute
+    INTERVALS,
+    // AND of 5 minute slot bitmaps, cost does not depend on the number of meetings,
+    // proposes only periods aligned to the grid, so short periods that do not fit it after rounding are skipped
+    BITMAP
+}
@@ -0,0 +1,158 @@
+package io.meeting;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+// latency of every solver phase, sizes of calendars and failed parses, switched on with -Dmeeting.metrics=true,
+// the flag is a static final constant, so when it is off the JIT removes every hook together with its clock reads,
+// when it is on the metrics are published as io.meeting:type=SolverMetrics and -Dmeeting.metrics.jfr=true
+// adds a PhaseEvent per phase to flight recordings
+final class SolverMetrics implements SolverMetricsMXBean {
+
+    static final boolean ENABLED = Boolean.getBoolean("meeting.metrics");
+    static final boolean JFR_EVENTS = ENABLED && Boolean.getBoolean("meeting.metrics.jfr");
+
+    static final String OBJECT_NAME = "io.meeting:type=SolverMetrics";
+
+    private static final SolverMetrics metrics = ENABLED ? register(new SolverMetrics()) : null;
+
+    enum Phase {
+        PARSE,
+        UNOCCUPIED_PERIODS,
+        INTERSECT,
+        ADJUST
+    }
+
+    private final MetricsHistogram[] phaseNanos = new MetricsHistogram[Phase.values().length];
+    private final MetricsHistogram meetingsPerCalendar = new MetricsHistogram();
+    private final MetricsHistogram freePeriodsPerCalendar = new MetricsHistogram();
+    private final AtomicLong failedParses = new AtomicLong();
+
+    SolverMetrics() {
+        for (int phase = 0; phase < phaseNanos.length; phase++) {
+            phaseNanos[phase] = new MetricsHistogram();
+        }
+    }
+
+    // hooks used by the solver, each one is a no-op when metrics are off
+
+    static long startTimer() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    static void stopTimer(Phase phase, long startNanos) {
+        if (ENABLED) {
+            metrics.recordPhase(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    static void countMeetings(int meetings) {
+        if (ENABLED) {
+            metrics.meetingsPerCalendar.record(meetings);
+        }
+    }
+
+    static void countFreePeriods(int freePeriods) {
+        if (ENABLED) {
+            metrics.freePeriodsPerCalendar.record(freePeriods);
+        }
+    }
+
+    static void countFailedParse() {
+        if (ENABLED) {
+            metrics.failedParses.incrementAndGet();
+        }
+    }
+
+    void recordPhase(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()].record(nanos);
+        if (JFR_EVENTS) {
+            PhaseEvent event = new PhaseEvent();
+            if (event.isEnabled()) {
+                event.phase = phase.name();
+                event.durationNanos = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    MetricsHistogram getPhaseHistogram(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    @Override
+    public Map<String, Long> getPhaseCounts() {
+        return perPhase(MetricsHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Double> getPhaseMeanNanos() {
+        Map<String, Double> means = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            means.put(phase.name(), getPhaseHistogram(phase).getMean());
+        }
+        return means;
+    }
+
+    @Override
+    public Map<String, Long> getPhaseP50Nanos() {
+        return perPhase(histogram -> histogram.getPercentile(0.5));
+    }
+
+    @Override
+    public Map<String, Long> getPhaseP99Nanos() {
+        return perPhase(histogram -> histogram.getPercentile(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getPhaseMaxNanos() {
+        return perPhase(MetricsHistogram::getMax);
+    }
+
+    @Override
+    public long[] getMeetingsPerCalendarBuckets() {
+        return meetingsPerCalendar.getBuckets();
+    }
+
+    @Override
+    public long[] getFreePeriodsPerCalendarBuckets() {
+        return freePeriodsPerCalendar.getBuckets();
+    }
+
+    @Override
+    public long getFailedParses() {
+        return failedParses.get();
+    }
+
+    @Override
+    public void reset() {
+        for (MetricsHistogram histogram : phaseNanos) {
+            histogram.reset();
+        }
+        meetingsPerCalendar.reset();
+        freePeriodsPerCalendar.reset();
+        failedParses.set(0);
+    }
+
+    private Map<String, Long> perPhase(ToLongFunction<MetricsHistogram> value) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            values.put(phase.name(), value.applyAsLong(getPhaseHistogram(phase)));
+        }
+        return values;
+    }
+
+    private static SolverMetrics register(SolverMetrics metrics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            System.err.println("Solver metrics could not be registered: " + e.getMessage());
+        }
+        return metrics;
+    }
+}
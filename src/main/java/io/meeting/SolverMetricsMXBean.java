@@ -0,0 +1,26 @@
+package io.meeting;
+
+import java.util.Map;
+
+// JMX view of SolverMetrics, it has to be public for the platform MBean server,
+// phase maps are keyed by phase name and latencies are in nanoseconds
+public interface SolverMetricsMXBean {
+
+    Map<String, Long> getPhaseCounts();
+
+    Map<String, Double> getPhaseMeanNanos();
+
+    Map<String, Long> getPhaseP50Nanos();
+
+    Map<String, Long> getPhaseP99Nanos();
+
+    Map<String, Long> getPhaseMaxNanos();
+
+    long[] getMeetingsPerCalendarBuckets();
+
+    long[] getFreePeriodsPerCalendarBuckets();
+
+    long getFailedParses();
+
+    void reset();
+}
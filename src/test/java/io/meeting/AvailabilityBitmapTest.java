@@ -0,0 +1,87 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class AvailabilityBitmapTest {
+
+    private Calendar randomCalendar(Random random) {
+        int workStart = 6 * 60 + random.nextInt(4 * 60);
+        int workEnd = 15 * 60 + random.nextInt(8 * 60);
+        IntervalBuffer meetings = new IntervalBuffer();
+        int minute = workStart + random.nextInt(30);
+        while (minute < workEnd - 10) {
+            int end = Math.min(workEnd, minute + 5 + random.nextInt(90));
+            meetings.add(minute, end);
+            minute = end + random.nextInt(80);
+        }
+        return new Calendar(workStart, workEnd, meetings);
+    }
+
+    @Nested
+    class FreeRunsTest {
+
+        @Test
+        void shouldMarkOnlyWholeSlotsInsideFreeTime() {
+            IntervalBuffer meetings = new IntervalBuffer();
+            meetings.add(10 * 60 + 2, 10 * 60 + 58);
+            AvailabilityBitmap bitmap = AvailabilityBitmap.of(new Calendar(9 * 60 + 3, 12 * 60 + 4, meetings));
+
+            Assertions.assertFalse(bitmap.isFree(9 * 12));
+            Assertions.assertTrue(bitmap.isFree(9 * 12 + 1));
+            Assertions.assertTrue(bitmap.isFree(9 * 12 + 11));
+            Assertions.assertFalse(bitmap.isFree(10 * 12));
+            Assertions.assertFalse(bitmap.isFree(10 * 12 + 11));
+            Assertions.assertTrue(bitmap.isFree(11 * 12));
+            Assertions.assertTrue(bitmap.isFree(11 * 12 + 11));
+            Assertions.assertFalse(bitmap.isFree(12 * 12));
+        }
+
+        @Test
+        void shouldFindRunsCrossingWordBoundaries() {
+            AvailabilityBitmap bitmap = AvailabilityBitmap.of(new Calendar(0, 23 * 60 + 55, new IntervalBuffer()));
+            IntervalBuffer runs = new IntervalBuffer();
+
+            bitmap.findFreeRuns(30, runs);
+
+            Assertions.assertEquals(1, runs.size());
+            Assertions.assertEquals(0, runs.start(0));
+            Assertions.assertEquals(23 * 60 + 55, runs.end(0));
+        }
+    }
+
+    @Nested
+    class BackendTest {
+
+        @Test
+        void shouldProposeTheGridAlignedMeetingsOfTheIntervalBackend() {
+            Random random = new Random(7);
+            for (int round = 0; round < 300; round++) {
+                List<Calendar> calendars = new ArrayList<>();
+                int attendees = 2 + random.nextInt(6);
+                for (int attendee = 0; attendee < attendees; attendee++) {
+                    calendars.add(randomCalendar(random));
+                }
+                int meetingLength = 5 + random.nextInt(60);
+                int alignedLength = (meetingLength + 4) / 5 * 5;
+
+                List<Period> expected = new ArrayList<>();
+                for (Period period : Calendar.proposePossibleMeetings(calendars, meetingLength, SolverBackend.INTERVALS)) {
+                    int start = IntervalBuffer.toMinutes(period.getStartTime());
+                    int end = IntervalBuffer.toMinutes(period.getEndTime());
+                    if (start % 5 == 0 && end % 5 == 0 && end - start >= alignedLength) {
+                        expected.add(period);
+                    }
+                }
+
+                Assertions.assertEquals(expected.toString(),
+                        Calendar.proposePossibleMeetings(calendars, meetingLength, SolverBackend.BITMAP).toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+class BatchSolverTest {
+
+    private static String request(String firstMeetingStart, String duration) {
+        return "{\"calendars\": [" +
+                "{\"working_hours\": {\"start\": \"09:00\", \"end\": \"17:00\"}, " +
+                "\"planned_meeting\": [{\"start\": \"" + firstMeetingStart + "\", \"end\": \"12:00\"}]}, " +
+                "{\"working_hours\": {\"start\": \"10:00\", \"end\": \"18:00\"}, \"planned_meeting\": []}], " +
+                "\"meeting_duration\": \"" + duration + "\"}";
+    }
+
+    @Nested
+    class SolveTest {
+
+        @Test
+        void shouldWriteProposalsInInputOrder() throws IOException {
+            StringBuilder input = new StringBuilder();
+            StringBuilder expected = new StringBuilder();
+            for (int hour = 10; hour < 12; hour++) {
+                for (int minute = 0; minute < 60; minute++) {
+                    String start = String.format("%02d:%02d", hour, minute);
+                    input.append(request(start, "[00:30]")).append('\n');
+                    expected.append(MeetingRequest.parseJson(request(start, "[00:30]"))
+                            .proposePossibleMeetings()).append('\n');
+                }
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            BatchSolver.Summary summary = new BatchSolver(4, 7).solve(
+                    new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)), output);
+
+            Assertions.assertEquals(120, summary.getRequests());
+            Assertions.assertEquals(0, summary.getFailed());
+            Assertions.assertEquals(expected.toString(), output.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void shouldReportIncorrectLinesWithoutStoppingTheBatch() throws IOException {
+            String input = request("11:00", "[00:30]") + "\n{\"calendars\": \n" + request("11:00", "[01:00]") + "\n";
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            BatchSolver.Summary summary = new BatchSolver(2, 1).solve(
+                    new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+            Assertions.assertEquals(3, summary.getRequests());
+            Assertions.assertEquals(1, summary.getFailed());
+            Assertions.assertEquals("[[\"10:00\", \"11:00\"], [\"12:00\", \"17:00\"]]\n" +
+                            "{\"error\": \"Incorrect JSON format\"}\n" +
+                            "[[\"10:00\", \"11:00\"], [\"12:00\", \"17:00\"]]\n",
+                    output.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void shouldAnswerBlankLinesSoOutputLinesMatchInputLines() throws IOException {
+            String input = request("11:00", "[00:30]") + "\n\n   \n" + request("11:00", "[01:00]") + "\n";
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            BatchSolver.Summary summary = new BatchSolver(2, 1).solve(
+                    new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+            Assertions.assertEquals(4, summary.getRequests());
+            Assertions.assertEquals(2, summary.getFailed());
+            Assertions.assertEquals("[[\"10:00\", \"11:00\"], [\"12:00\", \"17:00\"]]\n" +
+                            "{\"error\": \"Empty request\"}\n" +
+                            "{\"error\": \"Empty request\"}\n" +
+                            "[[\"10:00\", \"11:00\"], [\"12:00\", \"17:00\"]]\n",
+                    output.toString(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.meeting;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// the known good answer every solver is compared against, it shares no code with them: each minute of the day
+// is marked busy for everybody who is outside working hours or in a meeting at that minute, and every run
+// of minutes free for all that is long enough becomes a proposal, rounded to 5 minutes when it still fits
+final class BruteForceOracle {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int ROUNDING_MINUTES = 5;
+
+    private BruteForceOracle() {
+    }
+
+    static List<Period> proposePossibleMeetings(Collection<Calendar> calendars, int meetingLength) {
+        List<Period> proposals = new ArrayList<>();
+        for (int[] run : freeRuns(calendars)) {
+            if (run[1] - run[0] >= meetingLength) {
+                proposals.add(proposal(run[0], run[1], meetingLength));
+            }
+        }
+        return proposals;
+    }
+
+    // every start on a grid of gridMinutes where the whole meeting is free for all, a start follows the previous
+    // one by a grid slot, or by as many whole slots as the meeting needs when stepping by meeting length
+    static List<Integer> meetingStarts(Collection<Calendar> calendars, int meetingLength, int gridMinutes,
+                                       boolean stepByMeetingLength) {
+        int step = stepByMeetingLength
+                ? Math.max(gridMinutes, (meetingLength + gridMinutes - 1) / gridMinutes * gridMinutes) : gridMinutes;
+        List<Integer> starts = new ArrayList<>();
+        for (int[] run : freeRuns(calendars)) {
+            for (int start = (run[0] + gridMinutes - 1) / gridMinutes * gridMinutes;
+                 start + meetingLength <= run[1]; start += step) {
+                starts.add(start);
+            }
+        }
+        return starts;
+    }
+
+    // for every group of at least quorum attendees, every stretch of minutes where exactly that group is free
+    // for all of it and which cannot be made longer on either side while they stay free, in order of start
+    // and then of end, attendees are bits of a long, so groups of at most 64 people
+    static List<QuorumWindow> quorumWindows(List<Calendar> calendars, int meetingLength, int quorum) {
+        long[] free = new long[MINUTES_PER_DAY];
+        for (int attendee = 0; attendee < calendars.size(); attendee++) {
+            boolean[] busy = new boolean[MINUTES_PER_DAY];
+            markBusy(calendars.get(attendee), busy);
+            for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+                if (!busy[minute]) {
+                    free[minute] |= 1L << attendee;
+                }
+            }
+        }
+
+        List<QuorumWindow> windows = new ArrayList<>();
+        for (int start = 0; start < MINUTES_PER_DAY; start++) {
+            long group = free[start];
+            for (int end = start + 1; end <= MINUTES_PER_DAY && Long.bitCount(group) >= quorum; end++) {
+                boolean longestStart = start == 0 || (free[start - 1] & group) != group;
+                boolean longestEnd = end == MINUTES_PER_DAY || (free[end] & group) != group;
+                if (longestStart && longestEnd && end - start >= meetingLength) {
+                    int[] missing = new int[calendars.size() - Long.bitCount(group)];
+                    int missingCount = 0;
+                    for (int attendee = 0; attendee < calendars.size(); attendee++) {
+                        if ((group & (1L << attendee)) == 0) {
+                            missing[missingCount++] = attendee;
+                        }
+                    }
+                    windows.add(new QuorumWindow(proposal(start, end, meetingLength), missing));
+                }
+                if (end < MINUTES_PER_DAY) {
+                    group &= free[end];
+                }
+            }
+        }
+        return windows;
+    }
+
+    // start and end of every run of minutes free for all, in time order
+    private static List<int[]> freeRuns(Collection<Calendar> calendars) {
+        List<int[]> runs = new ArrayList<>();
+        if (calendars.isEmpty()) {
+            return runs;
+        }
+        boolean[] busy = new boolean[MINUTES_PER_DAY];
+        for (Calendar calendar : calendars) {
+            markBusy(calendar, busy);
+        }
+
+        int minute = 0;
+        while (minute < MINUTES_PER_DAY) {
+            if (busy[minute]) {
+                minute++;
+                continue;
+            }
+            int start = minute;
+            while (minute < MINUTES_PER_DAY && !busy[minute]) {
+                minute++;
+            }
+            runs.add(new int[]{start, minute});
+        }
+        return runs;
+    }
+
+    private static void markBusy(Calendar calendar, boolean[] busy) {
+        int workStart = minutes(calendar.getWorkStartTime());
+        int workEnd = minutes(calendar.getWorkEndTime());
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            if (minute < workStart || minute >= workEnd) {
+                busy[minute] = true;
+            }
+        }
+        for (Period meeting : calendar.getScheduledMeetings()) {
+            for (int minute = minutes(meeting.getStartTime()); minute < minutes(meeting.getEndTime()); minute++) {
+                busy[minute] = true;
+            }
+        }
+    }
+
+    private static Period proposal(int start, int end, int meetingLength) {
+        int roundedStart = (start + ROUNDING_MINUTES - 1) / ROUNDING_MINUTES * ROUNDING_MINUTES;
+        int roundedEnd = end / ROUNDING_MINUTES * ROUNDING_MINUTES;
+        if (roundedEnd - roundedStart >= meetingLength) {
+            return new Period(time(roundedStart), time(roundedEnd));
+        }
+        return new Period(time(start), time(start + meetingLength));
+    }
+
+    private static int minutes(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime time(int minutes) {
+        return LocalTime.of(minutes / 60, minutes % 60);
+    }
+}
@@ -0,0 +1,157 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class BusyTimelineTest {
+
+    // free periods found minute by minute from the meetings currently scheduled
+    private String freePeriodsMinuteByMinute(int workStart, int workEnd, List<int[]> meetings) {
+        boolean[] busy = new boolean[24 * 60];
+        for (int[] meeting : meetings) {
+            for (int minute = meeting[0]; minute < meeting[1]; minute++) {
+                busy[minute] = true;
+            }
+        }
+        IntervalBuffer free = new IntervalBuffer();
+        int minute = workStart;
+        while (minute < workEnd) {
+            if (busy[minute]) {
+                minute++;
+                continue;
+            }
+            int start = minute;
+            while (minute < workEnd && !busy[minute]) {
+                minute++;
+            }
+            free.add(start, minute);
+        }
+        return free.toString();
+    }
+
+    private String freePeriods(BusyTimeline timeline) {
+        IntervalBuffer free = new IntervalBuffer();
+        timeline.fillUnoccupiedPeriods(free);
+        return free.toString();
+    }
+
+    @Nested
+    class UpdateTest {
+
+        @Test
+        void shouldSplitAndJoinFreePeriods() {
+            BusyTimeline timeline = new BusyTimeline(9 * 60, 17 * 60);
+
+            timeline.add(10 * 60, 11 * 60);
+            timeline.add(10 * 60 + 30, 12 * 60);
+            Assertions.assertEquals("[[\"09:00\", \"10:00\"], [\"12:00\", \"17:00\"]]", freePeriods(timeline));
+
+            timeline.remove(10 * 60, 11 * 60);
+            Assertions.assertEquals("[[\"09:00\", \"10:30\"], [\"12:00\", \"17:00\"]]", freePeriods(timeline));
+
+            timeline.remove(10 * 60 + 30, 12 * 60);
+            Assertions.assertEquals("[[\"09:00\", \"17:00\"]]", freePeriods(timeline));
+        }
+
+        @Test
+        void shouldKeepDuplicatedMeetingsUntilEveryCopyIsCancelled() {
+            BusyTimeline timeline = new BusyTimeline(9 * 60, 17 * 60);
+            timeline.add(10 * 60, 11 * 60);
+            timeline.add(10 * 60, 11 * 60);
+
+            Assertions.assertTrue(timeline.remove(10 * 60, 11 * 60));
+            Assertions.assertEquals("[[\"09:00\", \"10:00\"], [\"11:00\", \"17:00\"]]", freePeriods(timeline));
+            Assertions.assertTrue(timeline.remove(10 * 60, 11 * 60));
+            Assertions.assertFalse(timeline.remove(10 * 60, 11 * 60));
+            Assertions.assertEquals("[[\"09:00\", \"17:00\"]]", freePeriods(timeline));
+        }
+
+        @Test
+        void shouldIgnoreMeetingsOutsideWorkingHours() {
+            BusyTimeline timeline = new BusyTimeline(9 * 60, 17 * 60);
+
+            timeline.add(7 * 60, 9 * 60 + 15);
+            timeline.add(16 * 60 + 45, 19 * 60);
+
+            Assertions.assertEquals("[[\"09:15\", \"16:45\"]]", freePeriods(timeline));
+        }
+
+        @Test
+        void shouldMatchMinuteByMinuteFreeTimeAfterRandomChanges() {
+            Random random = new Random(5);
+            int workStart = 8 * 60;
+            int workEnd = 18 * 60;
+            BusyTimeline timeline = new BusyTimeline(workStart, workEnd);
+            List<int[]> meetings = new ArrayList<>();
+
+            for (int change = 0; change < 3000; change++) {
+                if (meetings.isEmpty() || random.nextBoolean()) {
+                    int start = 7 * 60 + random.nextInt(12 * 60);
+                    int end = start + 1 + random.nextInt(90);
+                    meetings.add(new int[]{start, end});
+                    timeline.add(start, end);
+                } else {
+                    int[] meeting = meetings.remove(random.nextInt(meetings.size()));
+                    Assertions.assertTrue(timeline.remove(meeting[0], meeting[1]));
+                }
+
+                Assertions.assertEquals(freePeriodsMinuteByMinute(workStart, workEnd, meetings),
+                        freePeriods(timeline));
+            }
+        }
+    }
+
+    @Nested
+    class BulkBuildTest {
+
+        @Test
+        void shouldMatchMinuteByMinuteFreeTimeOfRawFeeds() {
+            Random random = new Random(11);
+            for (int round = 0; round < 50; round++) {
+                int workStart = 6 * 60 + random.nextInt(4 * 60);
+                int workEnd = 14 * 60 + random.nextInt(8 * 60);
+                List<int[]> meetings = new ArrayList<>();
+                IntervalBuffer feed = new IntervalBuffer();
+                for (int meeting = 0; meeting < 400; meeting++) {
+                    int start = random.nextInt(23 * 60);
+                    int end = Math.min(24 * 60 - 1, start + random.nextInt(120));
+                    meetings.add(new int[]{start, end});
+                    feed.add(start, end);
+                    if (random.nextInt(10) == 0) {
+                        meetings.add(new int[]{start, end});
+                        feed.add(start, end);
+                    }
+                }
+                feed.sortByStart();
+
+                BusyTimeline timeline = BusyTimeline.of(workStart, workEnd, feed);
+
+                Assertions.assertEquals(freePeriodsMinuteByMinute(workStart, workEnd, meetings), freePeriods(timeline));
+                Assertions.assertEquals(meetings.size(), timeline.getMeetingCount());
+            }
+        }
+
+        @Test
+        void shouldStayConsistentWithChangesAfterBulkBuild() {
+            IntervalBuffer feed = new IntervalBuffer();
+            feed.add(9 * 60, 11 * 60);
+            feed.add(10 * 60, 12 * 60);
+            feed.add(10 * 60, 12 * 60);
+            BusyTimeline timeline = BusyTimeline.of(8 * 60, 17 * 60, feed);
+
+            timeline.remove(10 * 60, 12 * 60);
+            timeline.add(13 * 60, 14 * 60);
+            Assertions.assertEquals("[[\"08:00\", \"09:00\"], [\"12:00\", \"13:00\"], [\"14:00\", \"17:00\"]]",
+                    freePeriods(timeline));
+
+            timeline.remove(10 * 60, 12 * 60);
+            timeline.remove(9 * 60, 11 * 60);
+            Assertions.assertEquals("[[\"08:00\", \"13:00\"], [\"14:00\", \"17:00\"]]", freePeriods(timeline));
+        }
+    }
+}
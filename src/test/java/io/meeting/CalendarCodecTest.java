@@ -0,0 +1,112 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class CalendarCodecTest {
+
+    private static final String CALENDAR = "{\"working_hours\": {\"start\": \"09:00\", \"end\": \"19:55\"}, " +
+            "\"planned_meeting\": [{\"start\": \"12:00\", \"end\": \"13:00\"}, {\"start\": \"08:30\", \"end\": \"10:30\"}, " +
+            "{\"start\": \"12:00\", \"end\": \"12:00\"}, {\"start\": \"19:00\", \"end\": \"20:30\"}]}";
+
+    @Nested
+    class RoundTripTest {
+
+        @Test
+        void shouldDecodeTheSameCalendar() {
+            Calendar calendar = Calendar.parseJson(CALENDAR);
+
+            Calendar decoded = CalendarCodec.decode(CalendarCodec.encode(calendar));
+
+            Assertions.assertEquals(calendar.getWorkStart(), decoded.getWorkStart());
+            Assertions.assertEquals(calendar.getWorkEnd(), decoded.getWorkEnd());
+            Assertions.assertEquals(calendar.getScheduledMeetings().toString(), decoded.getScheduledMeetings().toString());
+            Assertions.assertEquals(calendar.getUnoccupiedPeriods().toString(), decoded.getUnoccupiedPeriods().toString());
+        }
+
+        @Test
+        void shouldDecodeEveryCalendarTheReaderAccepts() {
+            // working hours past midnight, a meeting that ends before it starts and one at the last minute
+            String json = "{\"working_hours\": {\"start\": \"22:00\", \"end\": \"06:00\"}, " +
+                    "\"planned_meeting\": [{\"start\": \"15:00\", \"end\": \"14:00\"}, " +
+                    "{\"start\": \"23:00\", \"end\": \"23:59\"}]}";
+            Calendar calendar = Calendar.parseJson(json);
+
+            Calendar decoded = CalendarCodec.decode(CalendarCodec.encode(calendar));
+
+            Assertions.assertEquals(22 * 60, decoded.getWorkStart());
+            Assertions.assertEquals(6 * 60, decoded.getWorkEnd());
+            Assertions.assertEquals(calendar.getScheduledMeetings().toString(), decoded.getScheduledMeetings().toString());
+            Assertions.assertEquals(calendar.getUnoccupiedPeriods().toString(), decoded.getUnoccupiedPeriods().toString());
+        }
+
+        @Test
+        void shouldReadCalendarsOneAfterAnotherFromOneBuffer() {
+            Calendar calendar = Calendar.parseJson(CALENDAR);
+            ByteBuffer buffer = ByteBuffer.allocate(3 * CalendarCodec.maxEncodedSize(calendar));
+            for (int copy = 0; copy < 3; copy++) {
+                CalendarCodec.encode(calendar, buffer);
+            }
+            buffer.flip();
+
+            for (int copy = 0; copy < 3; copy++) {
+                Assertions.assertEquals(4, CalendarCodec.decode(buffer).getScheduledMeetings().size());
+            }
+            Assertions.assertFalse(buffer.hasRemaining());
+        }
+
+        @Test
+        void shouldTakeFarLessSpaceThanJson() {
+            Calendar calendar = Calendar.parseJson(CALENDAR);
+
+            int binarySize = CalendarCodec.encode(calendar).length;
+
+            Assertions.assertTrue(binarySize * 10 < CALENDAR.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    @Nested
+    class MalformedInputTest {
+
+        @Test
+        void shouldRejectTruncatedInput() {
+            byte[] encoded = CalendarCodec.encode(Calendar.parseJson(CALENDAR));
+            ByteBuffer truncated = ByteBuffer.wrap(encoded, 0, encoded.length - 1);
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> CalendarCodec.decode(truncated));
+        }
+
+        @Test
+        void shouldRejectUnknownFormatVersion() {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> CalendarCodec.decode(new byte[]{7, 0, 0, 0}));
+        }
+
+        @Test
+        void shouldRejectWorkingHoursOutsideOfTheDay() {
+            // work start 1500, work start 540 with work end 901 minutes after it, and work end at 24:00
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> CalendarCodec.decode(new byte[]{1, (byte) 0xDC, 0x0B, 0, 0}));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> CalendarCodec.decode(new byte[]{1, (byte) 0x9C, 0x04, (byte) 0x8A, 0x0E, 0}));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> CalendarCodec.decode(new byte[]{1, 0, (byte) 0xC0, 0x16, 0}));
+        }
+
+        @Test
+        void shouldRejectMeetingsOutsideOfTheDay() {
+            // 09:00-17:00 with one meeting 600 minutes before work start, one ending at 24:00,
+            // and one running 1000 minutes from work start
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> CalendarCodec.decode(new byte[]{1, (byte) 0x9C, 0x04, (byte) 0xC0, 0x07, 1, (byte) 0xAF, 0x09, 2}));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> CalendarCodec.decode(new byte[]{1, (byte) 0x9C, 0x04, (byte) 0xC0, 0x07, 1, 0, (byte) 0x88, 0x0E}));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> CalendarCodec.decode(new byte[]{1, (byte) 0x9C, 0x04, (byte) 0xC0, 0x07, 1, 0, (byte) 0xD0, 0x0F}));
+        }
+    }
+}
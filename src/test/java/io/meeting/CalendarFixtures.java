@@ -0,0 +1,19 @@
+package io.meeting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// hand written calendars for the tests, meetings are given as start and end pairs in HH:mm
+final class CalendarFixtures {
+
+    private CalendarFixtures() {
+    }
+
+    static Calendar createCalendar(String workStart, String workEnd, String... meetings) {
+        List<Period> alreadyScheduled = new ArrayList<>();
+        for (int index = 0; index < meetings.length; index += 2) {
+            alreadyScheduled.add(new Period(meetings[index], meetings[index + 1]));
+        }
+        return new Calendar(new Period(workStart, workEnd), alreadyScheduled);
+    }
+}
@@ -0,0 +1,166 @@
+package io.meeting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// seeded calendars shared by the tests and the benchmarks, so solvers are checked and measured on the same data,
+// calendar(random, meetingsPerDay) fills a whole day with random meetings that never overlap but may be back
+// to back, a day has only 1439 minutes, so a thousand meetings already fill most of it,
+// realistic(random, profile) looks like an office day, see Profile
+final class CalendarGenerator {
+
+    private static final int WORK_START = 0;
+    private static final int WORK_END = 23 * 60 + 59;
+
+    // lengths people book, the common ones more than once
+    private static final int[] MEETING_LENGTHS = {15, 15, 30, 30, 30, 45, 60, 60, 90, 120};
+
+    // how an office day looks, working hours differ by person and meetings may start before and end after them
+    static final class Profile {
+        // about a third of the day in meetings of common lengths, with gaps between most of them
+        static final Profile TYPICAL = new Profile(0.35, 0.3, 0.1, 0.0);
+        // as busy, but in many short meetings at odd minutes, like a support rota or a calendar of reminders
+        static final Profile FRAGMENTED = new Profile(0.35, 0.2, 0.8, 0.0);
+        // most of the day booked in back to back blocks
+        static final Profile PACKED = new Profile(0.7, 0.7, 0.1, 0.0);
+        // a raw feed of a typical day, where meetings are repeated and overlap, like after a merge of two calendars
+        static final Profile RAW_FEED = new Profile(0.35, 0.3, 0.1, 0.3);
+        // a meeting now and then, the only days on which large groups still have common free time
+        static final Profile SPARSE = new Profile(0.05, 0.3, 0.1, 0.0);
+
+        private final double density;
+        private final double backToBack;
+        private final double fragmentation;
+        private final double overlaps;
+
+        // density is the share of the day in meetings, the chances are of a meeting following the previous one
+        // without a gap, having an odd length and start, and being booked again over itself
+        Profile(double density, double backToBack, double fragmentation, double overlaps) {
+            this.density = density;
+            this.backToBack = backToBack;
+            this.fragmentation = fragmentation;
+            this.overlaps = overlaps;
+        }
+
+        // by the name of its constant, for benchmark parameters
+        static Profile named(String name) {
+            switch (name) {
+                case "TYPICAL":
+                    return TYPICAL;
+                case "FRAGMENTED":
+                    return FRAGMENTED;
+                case "PACKED":
+                    return PACKED;
+                case "RAW_FEED":
+                    return RAW_FEED;
+                case "SPARSE":
+                    return SPARSE;
+                default:
+                    throw new IllegalArgumentException("Unknown profile " + name);
+            }
+        }
+    }
+
+    private CalendarGenerator() {
+    }
+
+    static Calendar calendar(Random random, int meetingsPerDay) {
+        int span = WORK_END - WORK_START;
+        boolean[] taken = new boolean[span];
+        int[] starts = new int[Math.min(meetingsPerDay, span)];
+        for (int index = 0; index < starts.length; ) {
+            int start = random.nextInt(span);
+            if (!taken[start]) {
+                taken[start] = true;
+                starts[index++] = start;
+            }
+        }
+        Arrays.sort(starts);
+
+        IntervalBuffer meetings = new IntervalBuffer(starts.length);
+        for (int index = 0; index < starts.length; index++) {
+            int latestEnd = index + 1 < starts.length ? starts[index + 1] : span;
+            int end = starts[index] + 1 + random.nextInt(Math.min(90, latestEnd - starts[index]));
+            meetings.add(WORK_START + starts[index], WORK_START + end);
+        }
+        return new Calendar(WORK_START, WORK_END, meetings);
+    }
+
+    static List<Calendar> calendars(Random random, int count, int meetingsPerDay) {
+        List<Calendar> calendars = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            calendars.add(calendar(random, meetingsPerDay));
+        }
+        return calendars;
+    }
+
+    static Calendar realistic(Random random, Profile profile) {
+        int workStart = 7 * 60 + 30 * random.nextInt(5);
+        int workEnd = workStart + 8 * 60 + 30 * random.nextInt(5);
+        int dayStart = workStart - 30;
+        int dayEnd = workEnd + 30;
+
+        IntervalBuffer meetings = new IntervalBuffer();
+        int start = dayStart + gap(random, 30, profile);
+        while (start < dayEnd) {
+            int length = MEETING_LENGTHS[random.nextInt(MEETING_LENGTHS.length)];
+            if (random.nextDouble() < profile.fragmentation) {
+                start += random.nextInt(5);
+                length = 1 + random.nextInt(length);
+            }
+            int end = start + length;
+            meetings.add(start, end);
+            if (random.nextDouble() < profile.overlaps) {
+                int repeatStart = start + random.nextInt(length);
+                meetings.add(repeatStart, repeatStart + 1 + random.nextInt(length));
+            }
+            start = random.nextDouble() < profile.backToBack ? end : end + gap(random, length, profile);
+        }
+        return new Calendar(workStart, workEnd, meetings);
+    }
+
+    // free time after a meeting, long enough on average to keep the share of the day in meetings
+    private static int gap(Random random, int length, Profile profile) {
+        int meanGap = (int) (length * (1 - profile.density) / profile.density);
+        return 1 + random.nextInt(2 * meanGap + 1);
+    }
+
+    static List<Calendar> realisticCalendars(Random random, int count, Profile profile) {
+        List<Calendar> calendars = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            calendars.add(realistic(random, profile));
+        }
+        return calendars;
+    }
+
+    // the same shape Calendar.parseJson reads
+    static String toJson(Calendar calendar) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"working_hours\": {\"start\": \"").append(calendar.getWorkStartTime())
+                .append("\", \"end\": \"").append(calendar.getWorkEndTime()).append("\"}, \"planned_meeting\": [");
+        List<Period> meetings = calendar.getScheduledMeetings();
+        for (int index = 0; index < meetings.size(); index++) {
+            if (index > 0) {
+                json.append(", ");
+            }
+            json.append("{\"start\": \"").append(meetings.get(index).getStartTime())
+                    .append("\", \"end\": \"").append(meetings.get(index).getEndTime()).append("\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    // the same shape MeetingRequest.parseJson reads
+    static String toRequestJson(List<Calendar> calendars, int meetingLength) {
+        StringBuilder json = new StringBuilder("{\"calendars\": [");
+        for (int index = 0; index < calendars.size(); index++) {
+            if (index > 0) {
+                json.append(", ");
+            }
+            json.append(toJson(calendars.get(index)));
+        }
+        return json.append(String.format("], \"meeting_duration\": \"[%02d:%02d]\"}",
+                meetingLength / 60, meetingLength % 60)).toString();
+    }
+}
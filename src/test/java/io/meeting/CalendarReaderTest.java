@@ -0,0 +1,110 @@
+package io.meeting;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+
+class CalendarReaderTest {
+
+    private static final String CALENDAR = "{\"working_hours\": {\"start\": \"09:00\", \"end\": \"19:55\"}, " +
+            "\"planned_meeting\": [{\"start\": \"09:00\", \"end\": \"10:30\"}, {\"start\": \"12:00\", \"end\": \"13:00\"}]}";
+
+    @Nested
+    class ReadCalendarTest {
+
+        @Test
+        void shouldReadWorkingHoursAndMeetings() throws IOException {
+            Calendar calendar = CalendarReader.of(CALENDAR).next();
+
+            Assertions.assertEquals(LocalTime.of(9, 0), calendar.getWorkStartTime());
+            Assertions.assertEquals(LocalTime.of(19, 55), calendar.getWorkEndTime());
+            Assertions.assertEquals("[[\"09:00\", \"10:30\"], [\"12:00\", \"13:00\"]]",
+                    calendar.getScheduledMeetings().toString());
+        }
+
+        @Test
+        void shouldSkipUnknownFieldsAndDropSeconds() throws IOException {
+            String json = "{\"owner\": {\"name\": \"room\", \"tags\": [1, 2]}, " +
+                    "\"working_hours\": {\"start\": \"08:00:30\", \"end\": \"16:00\", \"zone\": \"UTC\"}}";
+
+            Calendar calendar = CalendarReader.of(json).next();
+
+            Assertions.assertEquals(LocalTime.of(8, 0), calendar.getWorkStartTime());
+            Assertions.assertTrue(calendar.getScheduledMeetings().isEmpty());
+        }
+
+        @Test
+        void shouldRejectTimesInOtherFormats() {
+            String json = "{\"working_hours\": {\"start\": \"9:00\", \"end\": \"16:00\"}}";
+
+            Assertions.assertThrows(JsonParseException.class, () -> CalendarReader.of(json).next());
+        }
+
+        @Test
+        void shouldRejectTimesOutOfRange() {
+            String json = "{\"working_hours\": {\"start\": \"09:00\", \"end\": \"24:10\"}}";
+
+            Assertions.assertThrows(JsonParseException.class, () -> CalendarReader.of(json).next());
+        }
+
+        @Test
+        void shouldRejectCalendarWithoutWorkingHours() {
+            Assertions.assertThrows(JsonParseException.class,
+                    () -> CalendarReader.of("{\"planned_meeting\": []}").next());
+        }
+
+        @Test
+        void shouldReturnNullFromParseJsonForIncorrectJson() {
+            Assertions.assertNull(Calendar.parseJson("{\"working_hours\": "));
+        }
+    }
+
+    @Nested
+    class ReadStreamTest {
+
+        @Test
+        void shouldReadEveryCalendarOfNewlineDelimitedStream() throws IOException {
+            StringBuilder lines = new StringBuilder();
+            for (int index = 0; index < 1000; index++) {
+                lines.append(CALENDAR).append('\n');
+            }
+            ByteArrayInputStream input = new ByteArrayInputStream(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+            int count = 0;
+            try (CalendarReader reader = CalendarReader.of(input)) {
+                Calendar calendar;
+                while ((calendar = reader.next()) != null) {
+                    Assertions.assertEquals(2, calendar.getScheduledMeetings().size());
+                    count++;
+                }
+            }
+
+            Assertions.assertEquals(1000, count);
+        }
+    }
+
+    @Nested
+    class ReadMeetingRequestTest {
+
+        @Test
+        void shouldReadCalendarsAndDuration() throws IOException {
+            MeetingRequest request = MeetingRequest.parseJson(
+                    "{\"calendars\": [" + CALENDAR + ", " + CALENDAR + "], \"meeting_duration\": \"[00:30]\"}");
+
+            Assertions.assertEquals(2, request.getCalendars().size());
+            Assertions.assertEquals(30, request.getMeetingLength());
+        }
+
+        @Test
+        void shouldRejectCalendarsFollowedByOtherValues() {
+            Assertions.assertThrows(JsonParseException.class, () -> MeetingRequest.parseJson(
+                    "{\"meeting_duration\": \"[00:30]\", \"calendars\": [" + CALENDAR + ", 42]}"));
+        }
+    }
+}
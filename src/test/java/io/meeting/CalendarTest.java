@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 class CalendarTest {
 
@@ -153,4 +155,174 @@ class CalendarTest {
             Assertions.assertEquals(LocalTime.of(17, 0), possibleMeetings.get(1).getEndTime());
         }
     }
+
+    @Nested
+    class ProposeMeetingsForManyCalendarsTest {
+
+        @Test
+        void shouldProposeTheSameMeetingsAsPairwiseSolving() {
+            Calendar calendarOne = CalendarFixtures.createCalendar("09:00", "20:00",
+                    "09:00", "10:30", "12:00", "13:00", "16:00", "18:30");
+            Calendar calendarTwo = CalendarFixtures.createCalendar("10:00", "18:30",
+                    "10:00", "11:30", "12:30", "14:30", "14:30", "15:00", "16:00", "17:00");
+
+            List<Period> pairwise = calendarOne.proposePossibleMeetings(calendarTwo, 30);
+            List<Period> sweep = Calendar.proposePossibleMeetings(List.of(calendarOne, calendarTwo), 30);
+
+            Assertions.assertEquals(pairwise.toString(), sweep.toString());
+        }
+
+        @Test
+        void shouldProposeMeetingsFreeForEveryCalendar() {
+            Calendar calendarOne = CalendarFixtures.createCalendar("09:00", "17:00",
+                    "09:00", "10:00", "13:00", "14:00");
+            Calendar calendarTwo = CalendarFixtures.createCalendar("08:00", "16:00",
+                    "11:00", "11:30");
+            Calendar calendarThree = CalendarFixtures.createCalendar("09:30", "18:00",
+                    "15:00", "15:20");
+
+            List<Period> possibleMeetings = Calendar.proposePossibleMeetings(
+                    List.of(calendarOne, calendarTwo, calendarThree), 45);
+
+            Assertions.assertEquals("[[\"10:00\", \"11:00\"], [\"11:30\", \"13:00\"], [\"14:00\", \"15:00\"]]",
+                    possibleMeetings.toString());
+        }
+
+        @Test
+        void shouldReturnEmptyListWhenWorkingHoursDoNotOverlap() {
+            Calendar calendarOne = CalendarFixtures.createCalendar("08:00", "12:00", "09:00", "10:00");
+            Calendar calendarTwo = CalendarFixtures.createCalendar("13:00", "17:00", "14:00", "15:00");
+            Calendar calendarThree = CalendarFixtures.createCalendar("08:00", "17:00", "12:00", "13:00");
+
+            List<Period> possibleMeetings = Calendar.proposePossibleMeetings(
+                    List.of(calendarOne, calendarTwo, calendarThree), 30);
+
+            Assertions.assertTrue(possibleMeetings.isEmpty());
+        }
+    }
+
+    @Nested
+    class ProposeEarliestMeetingsTest {
+
+        private List<Calendar> createCalendars() {
+            return List.of(
+                    CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00", "13:00", "14:00"),
+                    CalendarFixtures.createCalendar("08:00", "16:00", "11:00", "11:30"),
+                    CalendarFixtures.createCalendar("09:30", "18:00", "15:00", "15:20"));
+        }
+
+        @Test
+        void shouldStreamTheSameMeetingsAsEagerSolving() {
+            List<Period> eager = Calendar.proposePossibleMeetings(createCalendars(), 45);
+            List<Period> lazy = Calendar.streamPossibleMeetings(createCalendars(), 45)
+                    .collect(Collectors.toList());
+
+            Assertions.assertEquals(eager.toString(), lazy.toString());
+        }
+
+        @Test
+        void shouldProposeOnlyTheEarliestMeetings() {
+            List<Period> earliest = Calendar.proposeEarliestMeetings(createCalendars(), 45, 2);
+
+            Assertions.assertEquals("[[\"10:00\", \"11:00\"], [\"11:30\", \"13:00\"]]", earliest.toString());
+        }
+
+        @Test
+        void shouldReturnEveryMeetingWhenFewerThanRequestedExist() {
+            List<Period> earliest = Calendar.proposeEarliestMeetings(createCalendars(), 45, 10);
+
+            Assertions.assertEquals(3, earliest.size());
+        }
+    }
+
+    @Nested
+    class ChangeListenerTest {
+
+        @Test
+        void shouldStopRunningRemovedListeners() {
+            Calendar calendar = CalendarFixtures.createCalendar("09:00", "17:00");
+            int[] runs = new int[2];
+            Runnable removed = () -> runs[0]++;
+            calendar.addChangeListener(removed);
+            calendar.addChangeListener(() -> runs[1]++);
+
+            calendar.addMeeting(new Period("10:00", "11:00"));
+            calendar.removeChangeListener(removed);
+            calendar.addMeeting(new Period("12:00", "13:00"));
+
+            Assertions.assertArrayEquals(new int[]{1, 2}, runs);
+        }
+    }
+
+    @Nested
+    class FreeTimeCacheTest {
+
+        private Calendar createCalendar() {
+            List<Period> alreadyScheduled = new ArrayList<>();
+            alreadyScheduled.add(new Period(LocalTime.parse("10:00"), LocalTime.parse("11:00")));
+            return new Calendar(new Period(LocalTime.of(9, 0), LocalTime.of(17, 0)), alreadyScheduled);
+        }
+
+        @Test
+        void shouldComputeFreePeriodsOnlyOncePerVersion() {
+            Calendar calendar = createCalendar();
+
+            IntervalBuffer first = calendar.getUnoccupiedMinutes();
+            IntervalBuffer second = calendar.getUnoccupiedMinutes();
+
+            Assertions.assertSame(first, second);
+        }
+
+        @Test
+        void shouldRebuildFreePeriodsWhenMeetingIsAdded() {
+            Calendar calendar = createCalendar();
+            IntervalBuffer before = calendar.getUnoccupiedMinutes();
+            int version = calendar.getVersion();
+
+            calendar.addMeeting(new Period(LocalTime.of(13, 0), LocalTime.of(14, 0)));
+
+            Assertions.assertNotEquals(version, calendar.getVersion());
+            Assertions.assertNotSame(before, calendar.getUnoccupiedMinutes());
+            Assertions.assertEquals("[[\"09:00\", \"10:00\"], [\"11:00\", \"13:00\"], [\"14:00\", \"17:00\"]]",
+                    calendar.getUnoccupiedPeriods().toString());
+        }
+
+        @Test
+        void shouldRebuildFreePeriodsWhenMeetingIsCancelled() {
+            Calendar calendar = createCalendar();
+            calendar.getUnoccupiedMinutes();
+
+            boolean cancelled = calendar.cancelMeeting(new Period(LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+            Assertions.assertTrue(cancelled);
+            Assertions.assertEquals("[[\"09:00\", \"17:00\"]]", calendar.getUnoccupiedPeriods().toString());
+        }
+
+        @Test
+        void shouldKeepCacheWhenCancelledMeetingDoesNotExist() {
+            Calendar calendar = createCalendar();
+            IntervalBuffer before = calendar.getUnoccupiedMinutes();
+
+            boolean cancelled = calendar.cancelMeeting(new Period(LocalTime.of(15, 0), LocalTime.of(16, 0)));
+
+            Assertions.assertFalse(cancelled);
+            Assertions.assertSame(before, calendar.getUnoccupiedMinutes());
+        }
+
+        @Test
+        void shouldGiveTheSameFreeTimeBeforeAndAfterTheFirstChange() {
+            Random random = new Random(5);
+            for (int round = 0; round < 50; round++) {
+                Calendar calendar = CalendarGenerator.realistic(random, CalendarGenerator.Profile.RAW_FEED);
+                String beforeChange = calendar.getUnoccupiedPeriods().toString();
+                String meetingsBeforeChange = calendar.getScheduledMeetings().toString();
+
+                calendar.addMeeting(0, 1);
+                calendar.cancelMeeting(0, 1);
+
+                Assertions.assertEquals(beforeChange, calendar.getUnoccupiedPeriods().toString());
+                Assertions.assertEquals(meetingsBeforeChange, calendar.getScheduledMeetings().toString());
+            }
+        }
+    }
 }
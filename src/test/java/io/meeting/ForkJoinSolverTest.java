@@ -0,0 +1,77 @@
+package io.meeting;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+class ForkJoinSolverTest {
+
+    // one pool for every test, so no worker threads are left behind
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutDownPool() {
+        POOL.shutdown();
+    }
+
+    private Calendar sparseCalendar(Random random) {
+        IntervalBuffer meetings = new IntervalBuffer();
+        int minute = 8 * 60;
+        while (minute < 17 * 60) {
+            if (random.nextInt(8) == 0) {
+                meetings.add(minute, minute + 30);
+            }
+            minute += 30;
+        }
+        return new Calendar(8 * 60, 18 * 60, meetings);
+    }
+
+    @Nested
+    class ProposeMeetingsTest {
+
+        @Test
+        void shouldProposeTheSameMeetingsAsTheSequentialSweep() {
+            Random random = new Random(11);
+            ForkJoinSolver solver = new ForkJoinSolver(POOL, 3);
+            for (int round = 0; round < 50; round++) {
+                List<Calendar> calendars = new ArrayList<>();
+                int attendees = 1 + random.nextInt(40);
+                for (int attendee = 0; attendee < attendees; attendee++) {
+                    calendars.add(sparseCalendar(random));
+                }
+
+                Assertions.assertEquals(Calendar.proposePossibleMeetings(calendars, 30).toString(),
+                        solver.proposePossibleMeetings(calendars, 30).toString());
+            }
+        }
+
+        @Test
+        void shouldReturnEmptyListWhenOneCalendarIsFullyBooked() {
+            Random random = new Random(12);
+            List<Calendar> calendars = new ArrayList<>();
+            for (int attendee = 0; attendee < 1000; attendee++) {
+                calendars.add(sparseCalendar(random));
+            }
+            IntervalBuffer wholeDay = new IntervalBuffer();
+            wholeDay.add(8 * 60, 18 * 60);
+            calendars.set(500, new Calendar(8 * 60, 18 * 60, wholeDay));
+
+            List<Period> possibleMeetings = new ForkJoinSolver(POOL, 8)
+                    .proposePossibleMeetings(calendars, 15);
+
+            Assertions.assertTrue(possibleMeetings.isEmpty());
+        }
+
+        @Test
+        void shouldRejectThresholdLowerThanOne() {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> new ForkJoinSolver(ForkJoinPool.commonPool(), 0));
+        }
+    }
+}
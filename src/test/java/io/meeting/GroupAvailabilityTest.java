@@ -0,0 +1,78 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class GroupAvailabilityTest {
+
+    private static List<Calendar> createTeam(int size) {
+        List<Calendar> team = new ArrayList<>();
+        for (int member = 0; member < size; member++) {
+            String start = String.format("%02d:%02d", 9 + member % 4, member * 7 % 60);
+            team.add(CalendarFixtures.createCalendar("08:00", "18:00", start, String.format("%02d:30", 13 + member % 3)));
+        }
+        return team;
+    }
+
+    @Nested
+    class ProposeMeetingsTest {
+
+        @Test
+        void shouldProposeTheSameMeetingsAsMergingEveryCalendar() {
+            for (int size = 1; size <= 9; size++) {
+                List<Calendar> team = createTeam(size);
+                team.set(0, CalendarFixtures.createCalendar("07:00", "18:00", "11:00", "11:30"));
+
+                GroupAvailability group = new GroupAvailability("team", team);
+
+                Assertions.assertEquals(Calendar.proposePossibleMeetings(team, 30).toString(),
+                        group.proposePossibleMeetings(30).toString());
+            }
+        }
+
+        @Test
+        void shouldFollowChangedCalendarsOfMembers() {
+            List<Calendar> team = List.of(CalendarFixtures.createCalendar("09:00", "17:00"), CalendarFixtures.createCalendar("08:00", "16:00"),
+                    CalendarFixtures.createCalendar("09:30", "18:00"));
+            GroupAvailability group = new GroupAvailability("team", team);
+
+            team.get(1).addMeeting(new Period("10:00", "12:00"));
+            team.get(2).addMeeting(new Period("14:00", "15:00"));
+
+            Assertions.assertEquals("[[\"09:30\", \"10:00\"], [\"12:00\", \"14:00\"], [\"15:00\", \"16:00\"]]",
+                    group.proposePossibleMeetings(30).toString());
+        }
+
+        @Test
+        void shouldRecomputeOnlyThePathOfTheChangedMember() {
+            List<Calendar> team = createTeam(8);
+            GroupAvailability group = new GroupAvailability("team", team);
+            long recomputedBefore = group.getRecomputedNodes();
+
+            team.get(5).addMeeting(new Period("16:00", "17:00"));
+            group.proposePossibleMeetings(30);
+
+            Assertions.assertEquals(3, group.getRecomputedNodes() - recomputedBefore);
+        }
+    }
+
+    @Nested
+    class GroupDirectoryTest {
+
+        @Test
+        void shouldProposeMeetingsOfNamedGroups() {
+            GroupDirectory directory = new GroupDirectory();
+            List<Calendar> team = createTeam(4);
+            directory.define("reviewers", team);
+
+            Assertions.assertEquals(Calendar.proposePossibleMeetings(team, 45).toString(),
+                    directory.proposePossibleMeetings("reviewers", 45).toString());
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> directory.proposePossibleMeetings("writers", 45));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+class HorizonCalendarTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+
+    private Calendar randomDay(Random random) {
+        IntervalBuffer meetings = new IntervalBuffer();
+        int minute = 9 * 60 + random.nextInt(60);
+        while (minute < 16 * 60) {
+            int end = minute + 15 + random.nextInt(60);
+            meetings.add(minute, end);
+            minute = end + random.nextInt(90);
+        }
+        return new Calendar(8 * 60 + random.nextInt(120), 16 * 60 + random.nextInt(180), meetings);
+    }
+
+    @Nested
+    class ProposeMeetingsTest {
+
+        @Test
+        void shouldProposeTheSameMeetingsAsSolvingEveryDayAlone() {
+            Random random = new Random(3);
+            SortedMap<LocalDate, Calendar> daysOne = new TreeMap<>();
+            SortedMap<LocalDate, Calendar> daysTwo = new TreeMap<>();
+            List<String> expected = new ArrayList<>();
+
+            for (int day = 0; day < 30; day++) {
+                LocalDate date = MONDAY.plusDays(day);
+                daysOne.put(date, randomDay(random));
+                daysTwo.put(date, randomDay(random));
+                for (Period period : Calendar.proposePossibleMeetings(List.of(daysOne.get(date), daysTwo.get(date)), 45)) {
+                    expected.add(date + " " + period);
+                }
+            }
+
+            List<DatedPeriod> proposed = HorizonCalendar.proposePossibleMeetings(
+                    List.of(HorizonCalendar.ofDays(daysOne), HorizonCalendar.ofDays(daysTwo)), 45);
+
+            Assertions.assertEquals(expected.toString(), proposed.toString());
+        }
+
+        @Test
+        void shouldSkipDaysCoveredByBusyTimeSpanningManyDays() {
+            IntervalBuffer workingWindows = new IntervalBuffer();
+            for (int day = 0; day < 5; day++) {
+                workingWindows.add(HorizonCalendar.toEpochMinute(MONDAY.plusDays(day), 9 * 60),
+                        HorizonCalendar.toEpochMinute(MONDAY.plusDays(day), 17 * 60));
+            }
+            IntervalBuffer trip = new IntervalBuffer();
+            trip.add(HorizonCalendar.toEpochMinute(LocalDateTime.of(2026, 10, 19, 12, 0)),
+                    HorizonCalendar.toEpochMinute(LocalDateTime.of(2026, 10, 22, 10, 0)));
+
+            List<DatedPeriod> proposed = HorizonCalendar.proposePossibleMeetings(
+                    List.of(new HorizonCalendar(workingWindows, trip)), 60);
+
+            Assertions.assertEquals("[2026-10-19 [\"09:00\", \"12:00\"], 2026-10-22 [\"10:00\", \"17:00\"], " +
+                    "2026-10-23 [\"09:00\", \"17:00\"]]", proposed.toString());
+        }
+    
+        @Test
+        void shouldLeaveTheGivenPeriodsInTheirOrder() {
+            IntervalBuffer workingWindows = new IntervalBuffer();
+            workingWindows.add(HorizonCalendar.toEpochMinute(MONDAY.plusDays(1), 9 * 60),
+                    HorizonCalendar.toEpochMinute(MONDAY.plusDays(1), 17 * 60));
+            workingWindows.add(HorizonCalendar.toEpochMinute(MONDAY, 9 * 60),
+                    HorizonCalendar.toEpochMinute(MONDAY, 17 * 60));
+            IntervalBuffer busyPeriods = new IntervalBuffer();
+            busyPeriods.add(HorizonCalendar.toEpochMinute(MONDAY.plusDays(1), 10 * 60),
+                    HorizonCalendar.toEpochMinute(MONDAY.plusDays(1), 11 * 60));
+            busyPeriods.add(HorizonCalendar.toEpochMinute(MONDAY, 10 * 60),
+                    HorizonCalendar.toEpochMinute(MONDAY, 11 * 60));
+
+            new HorizonCalendar(workingWindows, busyPeriods);
+
+            Assertions.assertEquals(HorizonCalendar.toEpochMinute(MONDAY.plusDays(1), 9 * 60), workingWindows.start(0));
+            Assertions.assertEquals(HorizonCalendar.toEpochMinute(MONDAY.plusDays(1), 10 * 60), busyPeriods.start(0));
+        }
+
+        @Test
+        void shouldRejectWorkingWindowsSpanningMidnight() {
+            IntervalBuffer nightShift = new IntervalBuffer();
+            nightShift.add(HorizonCalendar.toEpochMinute(MONDAY, 22 * 60),
+                    HorizonCalendar.toEpochMinute(MONDAY.plusDays(1), 6 * 60));
+
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> new HorizonCalendar(nightShift, new IntervalBuffer()));
+        }
+    }
+}
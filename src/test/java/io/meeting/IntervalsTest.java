@@ -0,0 +1,131 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Random;
+
+class IntervalsTest {
+
+    private IntervalBuffer buffer(int... bounds) {
+        IntervalBuffer buffer = new IntervalBuffer();
+        for (int index = 0; index < bounds.length; index += 2) {
+            buffer.add(bounds[index], bounds[index + 1]);
+        }
+        return buffer;
+    }
+
+    @Nested
+    class IntervalBufferTest {
+
+        @Test
+        void shouldConvertBetweenMinutesAndLocalTime() {
+            Assertions.assertEquals(9 * 60 + 45, IntervalBuffer.toMinutes(LocalTime.of(9, 45)));
+            Assertions.assertEquals(LocalTime.of(23, 59), IntervalBuffer.toLocalTime(23 * 60 + 59));
+        }
+
+        @Test
+        void shouldSortByStartAndThenByEnd() {
+            IntervalBuffer buffer = buffer(600, 660, 540, 600, 600, 630);
+
+            buffer.sortByStart();
+
+            Assertions.assertEquals(540, buffer.start(0));
+            Assertions.assertEquals(600, buffer.start(1));
+            Assertions.assertEquals(630, buffer.end(1));
+            Assertions.assertEquals(660, buffer.end(2));
+        }
+
+        @Test
+        void shouldSortLargeBuffersOfOneDayLikeComparisonSort() {
+            Random random = new Random(3);
+            IntervalBuffer buffer = new IntervalBuffer();
+            long[] expected = new long[5000];
+            for (int index = 0; index < expected.length; index++) {
+                int start = random.nextInt(24 * 60);
+                int end = random.nextInt(24 * 60 + 1);
+                buffer.add(start, end);
+                expected[index] = ((long) start << 32) | end;
+            }
+            Arrays.sort(expected);
+
+            buffer.sortByStart();
+
+            for (int index = 0; index < expected.length; index++) {
+                Assertions.assertEquals(expected[index], buffer.packed(index));
+            }
+        }
+
+        @Test
+        void shouldGrowWhenFull() {
+            IntervalBuffer buffer = new IntervalBuffer(1);
+            for (int minute = 0; minute < 100; minute++) {
+                buffer.add(minute, minute + 1);
+            }
+
+            Assertions.assertEquals(100, buffer.size());
+            Assertions.assertEquals(99, buffer.start(99));
+            Assertions.assertEquals(100, buffer.end(99));
+        }
+    }
+
+    @Nested
+    class IntersectTest {
+
+        @Test
+        void shouldKeepOnlyJointPeriodsLongEnough() {
+            IntervalBuffer jointPeriods = new IntervalBuffer();
+
+            Intervals.intersect(buffer(540, 600, 660, 780), buffer(570, 700, 720, 900), 30, jointPeriods);
+
+            Assertions.assertEquals(3, jointPeriods.size());
+            Assertions.assertEquals(570, jointPeriods.start(0));
+            Assertions.assertEquals(600, jointPeriods.end(0));
+            Assertions.assertEquals(660, jointPeriods.start(1));
+            Assertions.assertEquals(700, jointPeriods.end(1));
+            Assertions.assertEquals(720, jointPeriods.start(2));
+            Assertions.assertEquals(780, jointPeriods.end(2));
+        }
+
+        @Test
+        void shouldIntersectManyListsTheSameWayAsPairs() {
+            IntervalBuffer one = buffer(540, 600, 660, 780);
+            IntervalBuffer two = buffer(570, 700, 720, 900);
+            IntervalBuffer three = buffer(500, 590, 680, 760);
+            IntervalBuffer pairwise = new IntervalBuffer();
+            IntervalBuffer pairwiseWithThird = new IntervalBuffer();
+            IntervalBuffer sweep = new IntervalBuffer();
+
+            Intervals.intersect(one, two, 0, pairwise);
+            Intervals.intersect(pairwise, three, 15, pairwiseWithThird);
+            Intervals.intersectAll(new IntervalBuffer[]{one, two, three}, 3, 15, sweep);
+
+            Assertions.assertEquals(pairwiseWithThird.toString(), sweep.toString());
+        }
+
+        @Test
+        void shouldNotJoinPeriodsThatOnlyTouch() {
+            IntervalBuffer jointPeriods = new IntervalBuffer();
+
+            Intervals.intersectAll(new IntervalBuffer[]{buffer(540, 600), buffer(600, 660)}, 2, 0, jointPeriods);
+
+            Assertions.assertTrue(jointPeriods.isEmpty());
+        }
+    }
+
+    @Nested
+    class AdjustTest {
+
+        @Test
+        void shouldRoundLongPeriodsAndKeepShortOnesFromTheirStart() {
+            IntervalBuffer possibleMeetings = new IntervalBuffer();
+
+            Intervals.adjustToCommonMeetingHours(buffer(627, 692, 627, 657), 30, possibleMeetings);
+
+            Assertions.assertEquals("[[\"10:27\", \"10:57\"], [\"10:30\", \"11:30\"]]", possibleMeetings.toString());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+class MappedCalendarStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    class StoreTest {
+
+        @Test
+        void shouldReturnStoredCalendars() throws IOException {
+            Calendar calendar = CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00", "13:00", "14:00");
+
+            try (MappedCalendarStore store = MappedCalendarStore.open(directory.resolve("calendars"), 10, 1 << 16)) {
+                store.put(42, calendar);
+
+                Assertions.assertTrue(store.contains(42));
+                Assertions.assertFalse(store.contains(43));
+                Assertions.assertNull(store.get(43));
+                Assertions.assertEquals(calendar.getScheduledMeetings().toString(),
+                        store.get(42).getScheduledMeetings().toString());
+            }
+        }
+
+        @Test
+        void shouldKeepCalendarsAfterReopening() throws IOException {
+            Path file = directory.resolve("calendars");
+            try (MappedCalendarStore store = MappedCalendarStore.open(file, 1000, 1 << 20)) {
+                for (long userId = 0; userId < 1000; userId++) {
+                    store.put(userId * 7919, CalendarFixtures.createCalendar("08:00", "16:00", "11:00", "11:30"));
+                }
+            }
+
+            try (MappedCalendarStore store = MappedCalendarStore.open(file, 1, 1)) {
+                Assertions.assertEquals(1000, store.size());
+                Assertions.assertEquals("[[\"11:00\", \"11:30\"]]", store.get(999 * 7919).getScheduledMeetings().toString());
+            }
+        }
+
+        @Test
+        void shouldReplaceCalendarOfTheSameUser() throws IOException {
+            try (MappedCalendarStore store = MappedCalendarStore.open(directory.resolve("calendars"), 10, 1 << 16)) {
+                store.put(1, CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00"));
+                store.put(1, CalendarFixtures.createCalendar("09:00", "17:00", "15:00", "16:00"));
+
+                Assertions.assertEquals(1, store.size());
+                Assertions.assertEquals("[[\"15:00\", \"16:00\"]]", store.get(1).getScheduledMeetings().toString());
+            }
+        }
+
+        @Test
+        void shouldRejectCalendarsWhenFull() throws IOException {
+            try (MappedCalendarStore store = MappedCalendarStore.open(directory.resolve("calendars"), 10, 64)) {
+                store.put(1, CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00"));
+
+                Assertions.assertThrows(IllegalStateException.class,
+                        () -> store.put(2, CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00", "11:00", "12:00")));
+            }
+        }
+
+        @Test
+        void shouldKeepUpdatingCalendarsThatFitTheirRecords() throws IOException {
+            // every update taking new space would fill the 256 data bytes after a few rounds
+            try (MappedCalendarStore store = MappedCalendarStore.open(directory.resolve("calendars"), 10, 256)) {
+                for (int round = 0; round < 1000; round++) {
+                    store.put(1, round % 2 == 0
+                            ? CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00")
+                            : CalendarFixtures.createCalendar("09:00", "17:00", "11:00", "11:30", "15:00", "16:00"));
+                    store.put(2, CalendarFixtures.createCalendar("08:00", "16:00", "12:00", "12:30"));
+                }
+
+                Assertions.assertEquals(2, store.size());
+                Assertions.assertEquals("[[\"11:00\", \"11:30\"], [\"15:00\", \"16:00\"]]",
+                        store.get(1).getScheduledMeetings().toString());
+                Assertions.assertEquals("[[\"12:00\", \"12:30\"]]", store.get(2).getScheduledMeetings().toString());
+            }
+        }
+
+        @Test
+        void shouldMoveCalendarsThatOutgrowTheirRecords() throws IOException {
+            Calendar grown = CalendarFixtures.createCalendar("09:00", "17:00",
+                    "09:00", "09:30", "10:00", "10:30", "11:00", "11:30", "12:00", "12:30", "13:00", "13:30");
+
+            try (MappedCalendarStore store = MappedCalendarStore.open(directory.resolve("calendars"), 10, 1 << 16)) {
+                store.put(1, CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00"));
+                store.put(2, CalendarFixtures.createCalendar("08:00", "16:00", "11:00", "11:30"));
+                store.put(1, grown);
+
+                Assertions.assertEquals(2, store.size());
+                Assertions.assertEquals(grown.getScheduledMeetings().toString(),
+                        store.get(1).getScheduledMeetings().toString());
+                Assertions.assertEquals("[[\"11:00\", \"11:30\"]]", store.get(2).getScheduledMeetings().toString());
+            }
+        }
+
+        @Test
+        void shouldReadWholeCalendarsWhileTheyAreReplaced() throws Exception {
+            String before = "[[\"09:00\", \"10:00\"]]";
+            String after = "[[\"11:00\", \"11:30\"], [\"15:00\", \"16:00\"]]";
+            try (MappedCalendarStore store = MappedCalendarStore.open(directory.resolve("calendars"), 100, 1 << 22)) {
+                Thread writer = new Thread(() -> {
+                    for (int round = 0; round < 2000; round++) {
+                        store.put(round % 50, round % 2 == 0
+                                ? CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00")
+                                : CalendarFixtures.createCalendar("09:00", "17:00", "11:00", "11:30", "15:00", "16:00"));
+                    }
+                });
+                writer.start();
+                while (writer.isAlive()) {
+                    for (long userId = 0; userId < 50; userId++) {
+                        Calendar calendar = store.get(userId);
+                        if (calendar != null) {
+                            String meetings = calendar.getScheduledMeetings().toString();
+                            Assertions.assertTrue(meetings.equals(before) || meetings.equals(after), meetings);
+                        }
+                    }
+                }
+                writer.join();
+                Assertions.assertEquals(50, store.size());
+            }
+        }
+    }
+
+    @Nested
+    class ProposeMeetingsTest {
+
+        @Test
+        void shouldProposeTheSameMeetingsAsCalendars() throws IOException {
+            Calendar calendarOne = CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00", "13:00", "14:00");
+            Calendar calendarTwo = CalendarFixtures.createCalendar("08:00", "16:00", "11:00", "11:30");
+            Calendar calendarThree = CalendarFixtures.createCalendar("09:30", "18:00", "15:00", "15:20");
+
+            try (MappedCalendarStore store = MappedCalendarStore.open(directory.resolve("calendars"), 10, 1 << 16)) {
+                store.put(1, calendarOne);
+                store.put(2, calendarTwo);
+                store.put(3, calendarThree);
+
+                Assertions.assertEquals(
+                        Calendar.proposePossibleMeetings(List.of(calendarOne, calendarTwo, calendarThree), 45).toString(),
+                        store.proposePossibleMeetings(new long[]{1, 2, 3}, 45).toString());
+            }
+        }
+
+        @Test
+        void shouldProposeMeetingsOfWholeCalendarsWhileTheyAreRewritten() throws Exception {
+            Calendar before = CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00");
+            Calendar after = CalendarFixtures.createCalendar("09:00", "17:00", "11:00", "11:30", "15:00", "16:00");
+            String proposedBefore = Calendar.proposePossibleMeetings(List.of(before), 30).toString();
+            String proposedAfter = Calendar.proposePossibleMeetings(List.of(after), 30).toString();
+
+            try (MappedCalendarStore store = MappedCalendarStore.open(directory.resolve("calendars"), 10, 1 << 10)) {
+                store.put(1, before);
+                Thread writer = new Thread(() -> {
+                    for (int round = 0; round < 20000; round++) {
+                        store.put(1, round % 2 == 0 ? after : before);
+                    }
+                });
+                writer.start();
+                while (writer.isAlive()) {
+                    String proposed = store.proposePossibleMeetings(new long[]{1}, 30).toString();
+                    Assertions.assertTrue(proposed.equals(proposedBefore) || proposed.equals(proposedAfter), proposed);
+                }
+                writer.join();
+            }
+        }
+
+        @Test
+        void shouldRejectUnknownUsers() throws IOException {
+            try (MappedCalendarStore store = MappedCalendarStore.open(directory.resolve("calendars"), 10, 1 << 16)) {
+                store.put(1, CalendarFixtures.createCalendar("09:00", "17:00"));
+
+                Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> store.proposePossibleMeetings(new long[]{1, 2}, 30));
+            }
+        }
+    }
+}
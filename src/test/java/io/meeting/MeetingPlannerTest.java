@@ -0,0 +1,130 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class MeetingPlannerTest {
+
+    // one on ones and small meetings of random people from the staff
+    private static List<MeetingRequest> createRequests(Random random, List<Calendar> staff, int count) {
+        List<MeetingRequest> requests = new ArrayList<>();
+        for (int request = 0; request < count; request++) {
+            List<Calendar> attendees = new ArrayList<>();
+            for (int attendee = 1 + random.nextInt(3); attendee >= 0; attendee--) {
+                attendees.add(staff.get(random.nextInt(staff.size())));
+            }
+            requests.add(new MeetingRequest(attendees, 15 + 15 * random.nextInt(4)));
+        }
+        return requests;
+    }
+
+    // proposing and booking the first proposal by hand for every request
+    private static List<String> placeOneByOne(List<MeetingRequest> requests) {
+        List<String> placements = new ArrayList<>();
+        for (MeetingRequest request : requests) {
+            List<Period> proposals = request.proposePossibleMeetings();
+            if (proposals.isEmpty()) {
+                placements.add("null");
+                continue;
+            }
+            int start = IntervalBuffer.toMinutes(proposals.get(0).getStartTime());
+            int end = start + request.getMeetingLength();
+            List<Calendar> booked = new ArrayList<>();
+            for (Calendar attendee : request.getCalendars()) {
+                if (booked.stream().noneMatch(calendar -> calendar == attendee)) {
+                    attendee.addMeeting(start, end);
+                    booked.add(attendee);
+                }
+            }
+            placements.add(new Period(IntervalBuffer.toLocalTime(start), IntervalBuffer.toLocalTime(end)).toString());
+        }
+        return placements;
+    }
+
+    @Nested
+    class PlanTest {
+
+        @Test
+        void shouldPlaceEveryMeetingLikeProposingAndBookingOneByOne() {
+            for (int seed = 0; seed < 10; seed++) {
+                CalendarGenerator.Profile profile = seed % 2 == 0
+                        ? CalendarGenerator.Profile.SPARSE : CalendarGenerator.Profile.TYPICAL;
+                List<Calendar> staff = CalendarGenerator.realisticCalendars(new Random(seed), 12, profile);
+                List<Calendar> sameStaff = CalendarGenerator.realisticCalendars(new Random(seed), 12, profile);
+                List<MeetingRequest> requests = createRequests(new Random(seed), staff, 60);
+                List<MeetingRequest> sameRequests = createRequests(new Random(seed), sameStaff, 60);
+
+                MeetingPlanner.Plan plan = MeetingPlanner.plan(requests);
+                List<String> expected = placeOneByOne(sameRequests);
+
+                List<String> placements = new ArrayList<>();
+                for (int request = 0; request < plan.getRequests(); request++) {
+                    placements.add(String.valueOf(plan.getPlacement(request)));
+                }
+                Assertions.assertEquals(expected, placements, "seed " + seed);
+                Assertions.assertEquals(sameStaff.toString(), staff.toString(), "seed " + seed);
+            }
+        }
+
+        @Test
+        void shouldPlaceMeetingsOfSharedAttendeesOneAfterAnother() {
+            Calendar interviewer = CalendarFixtures.createCalendar("09:00", "13:00", "10:00", "10:30");
+            Calendar first = CalendarFixtures.createCalendar("08:00", "17:00");
+            Calendar second = CalendarFixtures.createCalendar("08:00", "17:00");
+            Calendar third = CalendarFixtures.createCalendar("11:00", "17:00");
+
+            MeetingPlanner.Plan plan = MeetingPlanner.plan(List.of(
+                    new MeetingRequest(List.of(interviewer, first), 60),
+                    new MeetingRequest(List.of(interviewer, second), 60),
+                    new MeetingRequest(List.of(interviewer, third), 60)));
+
+            Assertions.assertEquals("[\"09:00\", \"10:00\"]", plan.getPlacement(0).toString());
+            Assertions.assertEquals("[\"10:30\", \"11:30\"]", plan.getPlacement(1).toString());
+            Assertions.assertEquals("[\"11:30\", \"12:30\"]", plan.getPlacement(2).toString());
+            Assertions.assertEquals(4, interviewer.getScheduledMeetings().size());
+        }
+
+        @Test
+        void shouldRoundPlacementsLikeProposals() {
+            Calendar one = CalendarFixtures.createCalendar("09:03", "17:00");
+            Calendar two = CalendarFixtures.createCalendar("08:00", "09:40");
+
+            MeetingPlanner.Plan plan = MeetingPlanner.plan(List.of(new MeetingRequest(List.of(one, two), 30)));
+
+            Assertions.assertEquals("[\"09:05\", \"09:35\"]", plan.getPlacement(0).toString());
+        }
+
+        @Test
+        void shouldLeaveMeetingsWithoutTimeUnplaced() {
+            Calendar one = CalendarFixtures.createCalendar("09:00", "10:00");
+            Calendar two = CalendarFixtures.createCalendar("09:00", "17:00");
+
+            MeetingPlanner.Plan plan = MeetingPlanner.plan(List.of(
+                    new MeetingRequest(List.of(one, two), 45),
+                    new MeetingRequest(List.of(one, two), 45),
+                    new MeetingRequest(List.of(two), 45)));
+
+            Assertions.assertEquals("[\"09:00\", \"09:45\"]", plan.getPlacement(0).toString());
+            Assertions.assertNull(plan.getPlacement(1));
+            Assertions.assertEquals("[\"09:45\", \"10:30\"]", plan.getPlacement(2).toString());
+            Assertions.assertEquals(2, plan.getPlaced());
+            Assertions.assertEquals(3, plan.getRequests());
+            Assertions.assertEquals(1, one.getScheduledMeetings().size());
+        }
+
+        @Test
+        void shouldBookAnAttendeeListedTwiceOnce() {
+            Calendar one = CalendarFixtures.createCalendar("09:00", "17:00");
+
+            MeetingPlanner.Plan plan = MeetingPlanner.plan(List.of(new MeetingRequest(List.of(one, one), 30)));
+
+            Assertions.assertEquals("[\"09:00\", \"09:30\"]", plan.getPlacement(0).toString());
+            Assertions.assertEquals(1, one.getScheduledMeetings().size());
+        }
+    }
+}
@@ -9,9 +9,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 
+import java.time.Duration;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 
 class PeriodTest {
@@ -276,6 +278,109 @@ class PeriodTest {
         }
     }
 
+    @Nested
+    class MergeIntersectionTest {
+
+        private List<Period> randomFreePeriods(Random random) {
+            List<Period> periods = new ArrayList<>();
+            int minute = 6 * 60 + random.nextInt(120);
+            while (minute < 22 * 60) {
+                int length = 5 + random.nextInt(90);
+                int end = Math.min(minute + length, 23 * 60);
+                periods.add(new Period(LocalTime.of(minute / 60, minute % 60), LocalTime.of(end / 60, end % 60)));
+                minute = end + 1 + random.nextInt(60);
+            }
+            return periods;
+        }
+
+        // the quadratic check of every pair of periods that was used before the merge
+        private List<Period> proposeMeetingTimeByCheckingEveryPair(List<Period> availableListOne,
+                                                                  List<Period> availableListTwo,
+                                                                  int meetingLength) {
+            List<Period> possibleMeetings = new ArrayList<>();
+            for (Period period : availableListOne) {
+                for (Period correspondingPeriod : availableListTwo) {
+                    Period joint = period.calculateJointPeriod(correspondingPeriod);
+                    if (joint == null || length(joint) < meetingLength) {
+                        continue;
+                    }
+                    Period rounded = joint.roundToEvenHour();
+                    if (length(rounded) < meetingLength) {
+                        possibleMeetings.add(new Period(joint.getStartTime(),
+                                joint.getStartTime().plusMinutes(meetingLength)));
+                    } else {
+                        possibleMeetings.add(rounded);
+                    }
+                }
+            }
+            possibleMeetings.sort(new Period.MyPeriodComparator());
+            return possibleMeetings;
+        }
+
+        private long length(Period period) {
+            return Duration.between(period.getStartTime(), period.getEndTime()).toMinutes();
+        }
+
+        @Test
+        void shouldProposeTheSameMeetingsAsCheckingEveryPair() {
+            Random random = new Random(42);
+            for (int round = 0; round < 500; round++) {
+                List<Period> availableListOne = randomFreePeriods(random);
+                List<Period> availableListTwo = randomFreePeriods(random);
+                int meetingLength = 5 + random.nextInt(60);
+
+                List<Period> expected = proposeMeetingTimeByCheckingEveryPair(availableListOne,
+                        availableListTwo, meetingLength);
+
+                Assertions.assertEquals(expected.toString(),
+                        Period.proposeMeetingTime(availableListOne, availableListTwo, meetingLength).toString());
+                Assertions.assertEquals(expected.toString(),
+                        Period.proposeMeetingTime(List.of(availableListOne, availableListTwo), meetingLength).toString());
+            }
+        }
+
+        @Test
+        void shouldAcceptListsThatAreNotSorted() {
+            List<Period> availableListOne = new ArrayList<>();
+            availableListOne.add(new Period(LocalTime.of(15, 0), LocalTime.of(16, 0)));
+            availableListOne.add(new Period(LocalTime.of(9, 0), LocalTime.of(10, 0)));
+            List<Period> availableListTwo = new ArrayList<>();
+            availableListTwo.add(new Period(LocalTime.of(8, 0), LocalTime.of(17, 0)));
+
+            List<Period> toPropose = Period.proposeMeetingTime(availableListOne, availableListTwo, 30);
+
+            Assertions.assertEquals("[[\"09:00\", \"10:00\"], [\"15:00\", \"16:00\"]]", toPropose.toString());
+        }
+
+        @Test
+        void shouldProposeEveryJointPeriodOfLongLists() {
+            List<Period> availableListOne = new ArrayList<>();
+            List<Period> availableListTwo = new ArrayList<>();
+            List<Period> expected = new ArrayList<>();
+            // every 4 minutes of the day the lists overlap for 2 minutes, pairing every period with every other
+            // would be quadratic, and a merge that loses its place in either list misses some of them
+            for (int minute = 0; minute + 4 < 24 * 60; minute += 4) {
+                availableListOne.add(new Period(IntervalBuffer.toLocalTime(minute), IntervalBuffer.toLocalTime(minute + 3)));
+                availableListTwo.add(new Period(IntervalBuffer.toLocalTime(minute + 1), IntervalBuffer.toLocalTime(minute + 4)));
+                expected.add(new Period(IntervalBuffer.toLocalTime(minute + 1), IntervalBuffer.toLocalTime(minute + 3)));
+            }
+
+            List<Period> toPropose = Period.proposeMeetingTime(availableListOne, availableListTwo, 2);
+
+            Assertions.assertEquals(359, toPropose.size());
+            Assertions.assertEquals(expected.toString(), toPropose.toString());
+            Assertions.assertTrue(Period.proposeMeetingTime(availableListOne, availableListTwo, 3).isEmpty());
+
+            // the merge takes at most one step per period of either list, whatever machine runs it
+            IntervalBuffer one = IntervalBuffer.fromPeriods(availableListOne);
+            IntervalBuffer two = IntervalBuffer.fromPeriods(availableListTwo);
+            int steps = Intervals.intersect(one, two, 2, new IntervalBuffer());
+            Assertions.assertTrue(steps <= one.size() + two.size(), "steps: " + steps);
+            Assertions.assertTrue(Intervals.intersect(one, IntervalBuffer.fromPeriods(availableListTwo.subList(0, 1)), 2,
+                    new IntervalBuffer()) <= 2, "a short list ends the merge early");
+        }
+    }
+
     @Nested
     class ParseJsonTest {
 
@@ -0,0 +1,103 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+class ProposalCacheTest {
+
+    private static final String CALENDAR_ONE = "{\"working_hours\": {\"start\": \"09:00\", \"end\": \"17:00\"}, " +
+            "\"planned_meeting\": [{\"start\": \"09:00\", \"end\": \"12:00\"}]}";
+    private static final String CALENDAR_TWO = "{\"working_hours\": {\"start\": \"10:00\", \"end\": \"18:00\"}, " +
+            "\"planned_meeting\": [{\"start\": \"13:00\", \"end\": \"13:30\"}]}";
+
+    private static String request(String firstCalendar, String secondCalendar) {
+        return "{\"calendars\": [" + firstCalendar + ", " + secondCalendar + "], \"meeting_duration\": \"[00:30]\"}";
+    }
+
+    @Nested
+    class RequestCacheTest {
+
+        @Test
+        void shouldAnswerRepeatedRequestsWithoutParsing() throws IOException {
+            ProposalCache cache = ProposalCache.withDefaults();
+            String request = request(CALENDAR_ONE, CALENDAR_TWO);
+
+            List<Period> first = cache.proposePossibleMeetings(request);
+            List<Period> second = cache.proposePossibleMeetings(request);
+
+            Assertions.assertSame(first, second);
+            Assertions.assertEquals(MeetingRequest.parseJson(request).proposePossibleMeetings().toString(), first.toString());
+            Assertions.assertEquals(1, cache.getRequestStats().hitCount());
+            Assertions.assertEquals(1, cache.getContentStats().requestCount());
+        }
+
+        @Test
+        void shouldAnswerTheSameContentInAnotherFormWithoutSolving() throws IOException {
+            ProposalCache cache = ProposalCache.withDefaults();
+
+            cache.proposePossibleMeetings(request(CALENDAR_ONE, CALENDAR_TWO));
+            cache.proposePossibleMeetings(request(CALENDAR_TWO, CALENDAR_ONE));
+
+            Assertions.assertEquals(2, cache.getRequestStats().missCount());
+            Assertions.assertEquals(1, cache.getContentStats().hitCount());
+        }
+
+        @Test
+        void shouldBoundRequestsByTheirLength() throws IOException {
+            String request = request(CALENDAR_ONE, CALENDAR_TWO);
+            ProposalCache cache = new ProposalCache("maximumSize=10000,concurrencyLevel=1", request.length(),
+                    ProposalCache.DEFAULT_MAXIMUM_CONTENT_LONGS);
+
+            cache.proposePossibleMeetings(request);
+            cache.proposePossibleMeetings(request);
+            cache.proposePossibleMeetings(request(CALENDAR_TWO, CALENDAR_ONE));
+            cache.proposePossibleMeetings(request);
+
+            Assertions.assertEquals(1, cache.getRequestStats().hitCount());
+            Assertions.assertEquals(3, cache.getRequestStats().missCount());
+            Assertions.assertEquals(2, cache.getRequestStats().evictionCount());
+        }
+
+        @Test
+        void shouldNotCacheIncorrectRequests() {
+            ProposalCache cache = ProposalCache.withDefaults();
+
+            Assertions.assertThrows(IOException.class, () -> cache.proposePossibleMeetings("{\"calendars\": "));
+            Assertions.assertEquals(0, cache.getContentStats().requestCount());
+        }
+    }
+
+    @Nested
+    class ContentKeyTest {
+
+        @Test
+        void shouldKeyByFreeTimeAndDuration() {
+            Calendar calendar = CalendarFixtures.createCalendar("09:00", "17:00", "10:00", "11:00", "10:30", "12:00");
+            Calendar sameFreeTime = CalendarFixtures.createCalendar("09:00", "17:00", "10:00", "12:00");
+
+            Assertions.assertEquals(ProposalCache.ContentKey.of(List.of(calendar), 30),
+                    ProposalCache.ContentKey.of(List.of(sameFreeTime), 30));
+            Assertions.assertNotEquals(ProposalCache.ContentKey.of(List.of(calendar), 30),
+                    ProposalCache.ContentKey.of(List.of(calendar), 45));
+        }
+
+        @Test
+        void shouldBoundContentByTheLengthOfItsKeys() {
+            // the key of one calendar free all day is the duration, the period count and one period
+            ProposalCache cache = new ProposalCache("maximumSize=10000,concurrencyLevel=1",
+                    ProposalCache.DEFAULT_MAXIMUM_REQUEST_CHARS, 3);
+            Calendar calendar = CalendarFixtures.createCalendar("09:00", "17:00");
+
+            cache.proposePossibleMeetings(List.of(calendar), 30);
+            cache.proposePossibleMeetings(List.of(calendar), 45);
+            cache.proposePossibleMeetings(List.of(calendar), 30);
+
+            Assertions.assertEquals(0, cache.getContentStats().hitCount());
+            Assertions.assertEquals(2, cache.getContentStats().evictionCount());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+class QuorumSolverTest {
+
+    @Nested
+    class ProposeQuorumMeetingsTest {
+
+        @Test
+        void shouldProposeTheSameMeetingsAsSolvingWhenEverybodyIsNeeded() {
+            List<Calendar> calendars = List.of(
+                    CalendarFixtures.createCalendar("09:00", "17:00", "09:00", "10:00", "13:00", "14:00"),
+                    CalendarFixtures.createCalendar("08:00", "16:00", "11:00", "11:30"),
+                    CalendarFixtures.createCalendar("09:30", "18:00", "15:00", "15:20"));
+
+            List<QuorumWindow> windows = QuorumSolver.proposePossibleMeetings(calendars, 45, 3);
+
+            Assertions.assertEquals(Calendar.proposePossibleMeetings(calendars, 45).toString(),
+                    windows.stream().map(QuorumWindow::getPeriod).collect(Collectors.toList()).toString());
+            Assertions.assertTrue(windows.stream().allMatch(window -> window.getMissingAttendees().length == 0));
+        }
+
+        @Test
+        void shouldListWhoIsMissingInEveryWindow() {
+            List<Calendar> calendars = List.of(
+                    CalendarFixtures.createCalendar("09:00", "13:00", "10:00", "11:00"),
+                    CalendarFixtures.createCalendar("09:00", "13:00", "12:00", "13:00"),
+                    CalendarFixtures.createCalendar("09:00", "13:00"));
+
+            List<QuorumWindow> windows = QuorumSolver.proposePossibleMeetings(calendars, 60, 2);
+
+            Assertions.assertEquals("[[\"09:00\", \"10:00\"] missing [], [\"09:00\", \"12:00\"] missing [0], " +
+                            "[\"11:00\", \"12:00\"] missing [], [\"11:00\", \"13:00\"] missing [1]]",
+                    windows.toString());
+        }
+
+        @Test
+        void shouldProposeTheWholeTeamWhereItCanMeetInsideALongerWindow() {
+            List<Calendar> calendars = List.of(
+                    CalendarFixtures.createCalendar("09:00", "17:00", "10:00", "17:00"),
+                    CalendarFixtures.createCalendar("09:00", "17:00"),
+                    CalendarFixtures.createCalendar("09:00", "17:00"));
+
+            List<QuorumWindow> windows = QuorumSolver.proposePossibleMeetings(calendars, 30, 2);
+
+            Assertions.assertEquals("[[\"09:00\", \"10:00\"] missing [], [\"09:00\", \"17:00\"] missing [0]]",
+                    windows.toString());
+        }
+
+        @Test
+        void shouldSkipWindowsWithoutQuorum() {
+            List<Calendar> calendars = List.of(
+                    CalendarFixtures.createCalendar("09:00", "12:00"),
+                    CalendarFixtures.createCalendar("12:00", "15:00"),
+                    CalendarFixtures.createCalendar("09:00", "15:00"));
+
+            Assertions.assertTrue(QuorumSolver.proposePossibleMeetings(calendars, 30, 3).isEmpty());
+            Assertions.assertEquals(2, QuorumSolver.proposePossibleMeetings(calendars, 30, 2).size());
+        }
+
+        @Test
+        void shouldRejectQuorumLargerThanTheGroup() {
+            List<Calendar> calendars = List.of(CalendarFixtures.createCalendar("09:00", "12:00"));
+
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> QuorumSolver.proposePossibleMeetings(calendars, 30, 2));
+        }
+    }
+}
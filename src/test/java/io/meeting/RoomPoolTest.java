@@ -0,0 +1,93 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class RoomPoolTest {
+
+    private static Calendar randomCalendar(Random random) {
+        IntervalBuffer meetings = new IntervalBuffer();
+        for (int start = 7 * 60 + random.nextInt(30); start < 19 * 60; start += 20 + random.nextInt(120)) {
+            int end = start + 1 + random.nextInt(90);
+            meetings.add(start, end);
+            start = end;
+        }
+        return new Calendar(6 * 60 + random.nextInt(180), 16 * 60 + random.nextInt(300), meetings);
+    }
+
+    // attendees solved together with every room in turn
+    private static List<String> solveRoomByRoom(List<Calendar> attendees, Map<String, Calendar> rooms,
+                                                int meetingLength) {
+        List<String> proposals = new ArrayList<>();
+        for (int minute = 0; minute < 24 * 60; minute++) {
+            for (Map.Entry<String, Calendar> room : rooms.entrySet()) {
+                List<Calendar> everybody = new ArrayList<>(attendees);
+                everybody.add(room.getValue());
+                for (Period period : Calendar.proposePossibleMeetings(everybody, meetingLength)) {
+                    if (IntervalBuffer.toMinutes(period.getStartTime()) == minute) {
+                        proposals.add(room.getKey() + " " + period);
+                    }
+                }
+            }
+        }
+        return proposals;
+    }
+
+    @Nested
+    class ProposeMeetingsWithRoomsTest {
+
+        @Test
+        void shouldProposeTheSameMeetingsAsSolvingWithEveryRoom() {
+            Random random = new Random(7);
+            for (int round = 0; round < 20; round++) {
+                List<Calendar> attendees = List.of(randomCalendar(random), randomCalendar(random));
+                Map<String, Calendar> rooms = new LinkedHashMap<>();
+                for (int room = 0; room < 70; room++) {
+                    rooms.put("room " + room, randomCalendar(random));
+                }
+                int meetingLength = 5 + random.nextInt(60);
+
+                List<RoomProposal> proposals = new RoomPool(rooms).proposePossibleMeetings(attendees, meetingLength);
+
+                Assertions.assertEquals(solveRoomByRoom(attendees, rooms, meetingLength).toString(),
+                        proposals.toString());
+            }
+        }
+
+        @Test
+        void shouldSkipRoomsThatCannotHoldTheMeeting() {
+            Map<String, Calendar> rooms = new LinkedHashMap<>();
+            for (int room = 0; room < 200; room++) {
+                rooms.put("busy " + room, CalendarFixtures.createCalendar("08:00", "18:00", "08:00", "10:30", "11:00", "18:00"));
+            }
+            rooms.put("free", CalendarFixtures.createCalendar("08:00", "18:00"));
+            RoomPool pool = new RoomPool(rooms);
+
+            List<RoomProposal> proposals = pool.proposePossibleMeetings(
+                    List.of(CalendarFixtures.createCalendar("09:00", "17:00", "12:00", "13:00")), 60);
+
+            Assertions.assertEquals("[free [\"09:00\", \"12:00\"], free [\"13:00\", \"17:00\"]]", proposals.toString());
+            Assertions.assertEquals(2, pool.getExaminedRooms());
+        }
+
+        @Test
+        void shouldFollowChangedRoomCalendars() {
+            Calendar room = CalendarFixtures.createCalendar("08:00", "18:00");
+            Map<String, Calendar> rooms = new LinkedHashMap<>();
+            rooms.put("small", room);
+            RoomPool pool = new RoomPool(rooms);
+
+            room.addMeeting(new Period("08:00", "17:00"));
+
+            Assertions.assertEquals("[small [\"17:00\", \"18:00\"]]",
+                    pool.proposePossibleMeetings(List.of(CalendarFixtures.createCalendar("08:00", "18:00")), 60).toString());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class RosterIndexTest {
+
+    private static Map<String, Calendar> createPeople(Random random, int count) {
+        Map<String, Calendar> people = new LinkedHashMap<>();
+        for (int person = 0; person < count; person++) {
+            people.put("person" + person, CalendarGenerator.realistic(random, CalendarGenerator.Profile.TYPICAL));
+        }
+        return people;
+    }
+
+    // every meeting of every person checked against the window, meetings that only touch it leave the person free
+    private static List<String> scanWhoIsFree(Map<String, Calendar> people, int start, int end) {
+        List<String> free = new ArrayList<>();
+        for (Map.Entry<String, Calendar> person : people.entrySet()) {
+            Calendar calendar = person.getValue();
+            boolean busy = start < calendar.getWorkStart() || end > calendar.getWorkEnd();
+            for (Period meeting : calendar.getScheduledMeetings()) {
+                busy |= IntervalBuffer.toMinutes(meeting.getStartTime()) < end
+                        && start < IntervalBuffer.toMinutes(meeting.getEndTime());
+            }
+            if (!busy) {
+                free.add(person.getKey());
+            }
+        }
+        return free;
+    }
+
+    private static Period window(int start, int end) {
+        return new Period(IntervalBuffer.toLocalTime(start), IntervalBuffer.toLocalTime(end));
+    }
+
+    @Nested
+    class WhoIsFreeTest {
+
+        @Test
+        void shouldFindTheSamePeopleAsScanningEveryMeeting() {
+            Random random = new Random(3);
+            Map<String, Calendar> people = createPeople(random, 700);
+            RosterIndex roster = new RosterIndex(people);
+
+            for (int query = 0; query < 300; query++) {
+                int start = 6 * 60 + random.nextInt(13 * 60);
+                int end = start + 1 + random.nextInt(query % 2 == 0 ? 10 : 120);
+                if (query % 3 == 0) {
+                    start -= start % 5;
+                    end = Math.max(start + 5, end - end % 5);
+                }
+                List<String> expected = scanWhoIsFree(people, start, end);
+
+                Assertions.assertEquals(expected, roster.whoIsFree(window(start, end)), start + "-" + end);
+                Assertions.assertEquals(expected.size(), roster.countFree(window(start, end)), start + "-" + end);
+            }
+        }
+
+        @Test
+        void shouldAnswerWithPositionsOfPeople() {
+            Map<String, Calendar> people = new LinkedHashMap<>();
+            people.put("ann", CalendarFixtures.createCalendar("09:00", "17:00", "14:30", "15:00"));
+            people.put("bob", CalendarFixtures.createCalendar("09:00", "17:00", "13:00", "14:00", "15:00", "16:00"));
+            people.put("eve", CalendarFixtures.createCalendar("14:00", "18:00"));
+            people.put("joe", CalendarFixtures.createCalendar("08:00", "14:30"));
+            RosterIndex roster = new RosterIndex(people);
+
+            Assertions.assertEquals(List.of("bob", "eve"), roster.whoIsFree(new Period("14:00", "15:00")));
+            Assertions.assertEquals("{1, 2}", roster.freeSet(new Period("14:00", "15:00")).toString());
+            Assertions.assertEquals("eve", roster.getName(2));
+            Assertions.assertEquals(List.of("ann", "bob", "eve", "joe"),
+                    roster.whoIsFree(new Period("14:02", "14:04")));
+            Assertions.assertEquals(List.of(), roster.whoIsFree(new Period("17:30", "18:30")));
+        }
+
+        @Test
+        void shouldFollowChangedCalendars() {
+            Map<String, Calendar> people = new LinkedHashMap<>();
+            people.put("ann", CalendarFixtures.createCalendar("09:00", "17:00"));
+            people.put("bob", CalendarFixtures.createCalendar("09:00", "17:00", "14:00", "15:00"));
+            RosterIndex roster = new RosterIndex(people);
+
+            people.get("ann").addMeeting(new Period("14:30", "14:45"));
+            people.get("bob").cancelMeeting(new Period("14:00", "15:00"));
+
+            Assertions.assertEquals(List.of("bob"), roster.whoIsFree(new Period("14:00", "15:00")));
+        }
+
+        @Test
+        void shouldFollowChangesBetweenQueries() {
+            Random random = new Random(5);
+            Map<String, Calendar> people = createPeople(random, 200);
+            List<Calendar> calendars = new ArrayList<>(people.values());
+            RosterIndex roster = new RosterIndex(people);
+
+            for (int round = 0; round < 50; round++) {
+                Calendar changed = calendars.get(random.nextInt(calendars.size()));
+                int start = 9 * 60 + 5 * random.nextInt(90);
+                changed.addMeeting(start, start + 30);
+
+                Assertions.assertEquals(scanWhoIsFree(people, 14 * 60, 15 * 60),
+                        roster.whoIsFree(new Period("14:00", "15:00")), "round " + round);
+            }
+        }
+
+        @Test
+        void shouldUseEveryWordOfLargeRosters() {
+            Map<String, Calendar> people = new LinkedHashMap<>();
+            for (int person = 0; person < 5000; person++) {
+                people.put("person" + person, person % 64 == 63
+                        ? CalendarFixtures.createCalendar("09:00", "17:00", "14:00", "14:05") : CalendarFixtures.createCalendar("09:00", "17:00"));
+            }
+            RosterIndex roster = new RosterIndex(people);
+
+            Assertions.assertEquals(5000 - 5000 / 64, roster.countFree(new Period("14:00", "15:00")));
+            Assertions.assertEquals(5000, roster.countFree(new Period("14:05", "15:00")));
+            Assertions.assertFalse(roster.freeSet(new Period("13:58", "14:01")).get(4991));
+        }
+
+        @Test
+        void shouldRejectEmptyWindows() {
+            RosterIndex roster = new RosterIndex(Map.of("ann", CalendarFixtures.createCalendar("09:00", "17:00")));
+
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> roster.countFree(new Period("14:00", "14:00")));
+        }
+
+        @Test
+        void shouldFindNobodyInAnEmptyRoster() {
+            RosterIndex roster = new RosterIndex(Map.of());
+
+            Assertions.assertEquals(0, roster.countFree(new Period("14:00", "14:03")));
+        }
+    }
+
+    @Nested
+    class CloseTest {
+
+        @Test
+        void shouldRejectQueriesOnceClosed() {
+            RosterIndex roster = new RosterIndex(Map.of("ann", CalendarFixtures.createCalendar("09:00", "17:00")));
+
+            roster.close();
+            roster.close();
+
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> roster.whoIsFree(new Period("14:00", "15:00")));
+        }
+
+        @Test
+        void shouldFollowCalendarsInARebuiltIndex() {
+            Map<String, Calendar> people = new LinkedHashMap<>();
+            people.put("ann", CalendarFixtures.createCalendar("09:00", "17:00"));
+            people.put("bob", CalendarFixtures.createCalendar("09:00", "17:00", "14:00", "15:00"));
+            RosterIndex roster = new RosterIndex(people);
+            roster.close();
+
+            RosterIndex rebuilt = new RosterIndex(people);
+            people.get("ann").addMeeting(new Period("14:30", "14:45"));
+            people.get("bob").cancelMeeting(new Period("14:00", "15:00"));
+
+            Assertions.assertEquals(List.of("bob"), rebuilt.whoIsFree(new Period("14:00", "15:00")));
+        }
+    }
+}
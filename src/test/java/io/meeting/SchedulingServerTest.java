@@ -0,0 +1,74 @@
+package io.meeting;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+class SchedulingServerTest {
+
+    private static final String REQUEST = "{\"calendars\": [" +
+            "{\"working_hours\": {\"start\": \"09:00\", \"end\": \"17:00\"}, " +
+            "\"planned_meeting\": [{\"start\": \"09:00\", \"end\": \"12:00\"}]}, " +
+            "{\"working_hours\": {\"start\": \"10:00\", \"end\": \"18:00\"}, \"planned_meeting\": []}], " +
+            "\"meeting_duration\": \"[00:30]\"}";
+
+    private SchedulingServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = SchedulingServer.start(0);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder meetings() {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() +
+                SchedulingServer.MEETINGS_PATH));
+    }
+
+    @Nested
+    class MeetingsEndpointTest {
+
+        @Test
+        void shouldAnswerWithTheSameProposalsAsTheSolver() throws IOException, InterruptedException {
+            HttpResponse<String> response = send(meetings().POST(HttpRequest.BodyPublishers.ofString(REQUEST)));
+
+            Assertions.assertEquals(200, response.statusCode());
+            Assertions.assertEquals(MeetingRequest.parseJson(REQUEST).proposePossibleMeetings().toString(),
+                    response.body());
+        }
+
+        @Test
+        void shouldRejectIncorrectJson() throws IOException, InterruptedException {
+            HttpResponse<String> response = send(meetings().POST(
+                    HttpRequest.BodyPublishers.ofString("{\"calendars\": ")));
+
+            Assertions.assertEquals(400, response.statusCode());
+            Assertions.assertEquals("{\"error\": \"Incorrect JSON format\"}", response.body());
+        }
+
+        @Test
+        void shouldAcceptOnlyPost() throws IOException, InterruptedException {
+            HttpResponse<String> response = send(meetings().GET());
+
+            Assertions.assertEquals(405, response.statusCode());
+        }
+    }
+}
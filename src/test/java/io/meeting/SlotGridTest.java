@@ -0,0 +1,66 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+class SlotGridTest {
+
+    private static List<String> toTimes(PrimitiveIterator.OfInt starts) {
+        List<String> times = new ArrayList<>();
+        while (starts.hasNext()) {
+            times.add(IntervalBuffer.toLocalTime(starts.nextInt()).toString());
+        }
+        return times;
+    }
+
+    @Nested
+    class ProposeMeetingStartsTest {
+
+        private final List<Calendar> calendars = List.of(
+                CalendarFixtures.createCalendar("09:07", "17:00", "10:00", "16:00"),
+                CalendarFixtures.createCalendar("08:00", "16:50", "09:20", "09:25"));
+
+        @Test
+        void shouldEnumerateEveryAlignedStartThatFits() {
+            List<String> starts = toTimes(Calendar.proposeMeetingStarts(calendars, 30, SlotGrid.QUARTER_HOURS, false));
+
+            Assertions.assertEquals("[09:30, 16:00, 16:15]", starts.toString());
+        }
+
+        @Test
+        void shouldStepByMeetingLength() {
+            List<String> starts = toTimes(Calendar.proposeMeetingStarts(calendars, 20, SlotGrid.FIVE_MINUTES, true));
+
+            Assertions.assertEquals("[09:25, 16:00, 16:20]", starts.toString());
+        }
+
+        @Test
+        void shouldSkipJointPeriodsWithoutAlignedStart() {
+            List<Calendar> narrow = List.of(CalendarFixtures.createCalendar("09:07", "09:40"), CalendarFixtures.createCalendar("09:00", "12:00"));
+
+            Assertions.assertFalse(Calendar.proposeMeetingStarts(narrow, 30, SlotGrid.HALF_HOURS, false).hasNext());
+        }
+    }
+
+    @Nested
+    class GridTest {
+
+        @Test
+        void shouldRoundToTheGrid() {
+            Assertions.assertEquals(615, SlotGrid.QUARTER_HOURS.roundUp(601));
+            Assertions.assertEquals(600, SlotGrid.QUARTER_HOURS.roundDown(614));
+            Assertions.assertEquals(600, SlotGrid.TEN_MINUTES.roundUp(600));
+        }
+
+        @Test
+        void shouldRejectGridsThatDoNotDivideTheDay() {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> new SlotGrid(7));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> new SlotGrid(0));
+        }
+    }
+}
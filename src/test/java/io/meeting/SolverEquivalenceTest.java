@@ -0,0 +1,349 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+// every solver path and mode against the brute force oracle on seeded realistic calendars,
+// the bitmap backend only on calendars aligned to its grid, where it has to give the exact answer
+class SolverEquivalenceTest {
+
+    private static final CalendarGenerator.Profile[] PROFILES = {CalendarGenerator.Profile.TYPICAL,
+            CalendarGenerator.Profile.FRAGMENTED, CalendarGenerator.Profile.PACKED,
+            CalendarGenerator.Profile.RAW_FEED};
+    private static final int[] MEETING_LENGTHS = {5, 17, 30, 45, 60, 90};
+    private static final int ROUNDS = 40;
+
+    // attendees of one round, a few people for every profile in turn and every fifth round a large group
+    private static List<Calendar> attendees(Random random, int round) {
+        if (round % 5 == 4) {
+            return CalendarGenerator.realisticCalendars(random, 10 + random.nextInt(30),
+                    CalendarGenerator.Profile.SPARSE);
+        }
+        return CalendarGenerator.realisticCalendars(random, 2 + random.nextInt(4), PROFILES[round % PROFILES.length]);
+    }
+
+    private static int meetingLength(Random random) {
+        return MEETING_LENGTHS[random.nextInt(MEETING_LENGTHS.length)];
+    }
+
+    // the calendar moved onto the 5 minute grid, working hours shrink and meetings grow to whole slots
+    private static Calendar onTheGrid(Calendar calendar) {
+        IntervalBuffer meetings = calendar.getScheduledMeetingMinutes();
+        IntervalBuffer aligned = new IntervalBuffer(meetings.size());
+        for (int index = 0; index < meetings.size(); index++) {
+            aligned.add(meetings.start(index) / 5 * 5, Math.min(24 * 60 - 1, (meetings.end(index) + 4) / 5 * 5));
+        }
+        return new Calendar((calendar.getWorkStart() + 4) / 5 * 5, calendar.getWorkEnd() / 5 * 5, aligned);
+    }
+
+    private static void assertSameProposals(List<Period> expected, List<Period> actual, String message) {
+        Assertions.assertEquals(expected.toString(), actual.toString(), message);
+    }
+
+    @Nested
+    class GeneratorTest {
+
+        @Test
+        void shouldGenerateTheSameCalendarsForTheSameSeed() {
+            for (CalendarGenerator.Profile profile : PROFILES) {
+                Assertions.assertEquals(CalendarGenerator.realisticCalendars(new Random(3), 20, profile).toString(),
+                        CalendarGenerator.realisticCalendars(new Random(3), 20, profile).toString());
+            }
+        }
+
+        @Test
+        void shouldLeaveSomeDaysWithProposals() {
+            Random random = new Random(5);
+            int solvable = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = CalendarGenerator.realisticCalendars(random, 3,
+                        PROFILES[round % PROFILES.length]);
+                if (!BruteForceOracle.proposePossibleMeetings(calendars, 30).isEmpty()) {
+                    solvable++;
+                }
+            }
+
+            Assertions.assertTrue(solvable > ROUNDS / 4 && solvable < ROUNDS, "solvable " + solvable);
+        }
+    }
+
+    @Nested
+    class OracleTest {
+
+        @Test
+        void shouldRoundOnlyWhenTheMeetingStillFits() {
+            List<Calendar> calendars = List.of(
+                    new Calendar(new Period("09:03", "17:00"), List.of(new Period("09:40", "16:12"))),
+                    new Calendar(new Period("08:00", "16:44"), List.of()));
+
+            Assertions.assertEquals("[[\"09:05\", \"09:40\"], [\"16:12\", \"16:42\"]]",
+                    BruteForceOracle.proposePossibleMeetings(calendars, 30).toString());
+        }
+    }
+
+    @Nested
+    class SolverPathsTest {
+
+        @Test
+        void shouldProposeTheSameMeetingsWithIntervals() {
+            Random random = new Random(11);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+
+                assertSameProposals(BruteForceOracle.proposePossibleMeetings(calendars, meetingLength),
+                        Calendar.proposePossibleMeetings(calendars, meetingLength), "round " + round);
+            }
+        }
+
+        @Test
+        void shouldProposeTheSameMeetingsForTwoCalendars() {
+            Random random = new Random(13);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = CalendarGenerator.realisticCalendars(random, 2,
+                        PROFILES[round % PROFILES.length]);
+                int meetingLength = meetingLength(random);
+
+                assertSameProposals(BruteForceOracle.proposePossibleMeetings(calendars, meetingLength),
+                        calendars.get(0).proposePossibleMeetings(calendars.get(1), meetingLength), "round " + round);
+            }
+        }
+
+        @Test
+        void shouldProposeTheSameMeetingsFromListsOfFreePeriods() {
+            Random random = new Random(17);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+                List<List<Period>> availableLists = calendars.stream()
+                        .map(Calendar::getUnoccupiedPeriods)
+                        .collect(Collectors.toList());
+
+                assertSameProposals(BruteForceOracle.proposePossibleMeetings(calendars, meetingLength),
+                        Period.proposeMeetingTime(availableLists, meetingLength), "round " + round);
+            }
+        }
+
+        @Test
+        void shouldProposeTheSameMeetingsWithForkJoin() {
+            ForkJoinSolver solver = new ForkJoinSolver(ForkJoinPool.commonPool(), 8);
+            Random random = new Random(19);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+
+                assertSameProposals(BruteForceOracle.proposePossibleMeetings(calendars, meetingLength),
+                        solver.proposePossibleMeetings(calendars, meetingLength), "round " + round);
+            }
+        }
+
+        @Test
+        void shouldStreamTheSameMeetings() {
+            Random random = new Random(23);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+
+                assertSameProposals(BruteForceOracle.proposePossibleMeetings(calendars, meetingLength),
+                        Calendar.streamPossibleMeetings(calendars, meetingLength).collect(Collectors.toList()),
+                        "round " + round);
+            }
+        }
+
+        @Test
+        void shouldProposeTheSameMeetingsForAGroup() {
+            Random random = new Random(29);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+
+                assertSameProposals(BruteForceOracle.proposePossibleMeetings(calendars, meetingLength),
+                        new GroupAvailability("group", calendars).proposePossibleMeetings(meetingLength),
+                        "round " + round);
+            }
+        }
+    }
+
+    @Nested
+    class ModesTest {
+
+        @Test
+        void shouldProposeTheSameMeetingsWithAQuorumOfEverybody() {
+            Random random = new Random(41);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+                List<Period> periods = new ArrayList<>();
+                for (QuorumWindow window : QuorumSolver.proposePossibleMeetings(calendars, meetingLength,
+                        calendars.size())) {
+                    Assertions.assertEquals(0, window.getMissingAttendees().length, "round " + round);
+                    periods.add(window.getPeriod());
+                }
+
+                assertSameProposals(BruteForceOracle.proposePossibleMeetings(calendars, meetingLength), periods,
+                        "round " + round);
+            }
+        }
+
+        @Test
+        void shouldProposeTheSameWindowsForEveryQuorum() {
+            Random random = new Random(61);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+                int quorum = 1 + random.nextInt(calendars.size());
+
+                Assertions.assertEquals(
+                        BruteForceOracle.quorumWindows(calendars, meetingLength, quorum).toString(),
+                        QuorumSolver.proposePossibleMeetings(calendars, meetingLength, quorum).toString(),
+                        "round " + round + " quorum " + quorum);
+            }
+        }
+
+        @Test
+        void shouldProposeTheSameStartsOnEveryGrid() {
+            SlotGrid[] grids = {SlotGrid.FIVE_MINUTES, SlotGrid.TEN_MINUTES, SlotGrid.QUARTER_HOURS, SlotGrid.HALF_HOURS};
+            Random random = new Random(43);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+                SlotGrid grid = grids[round % grids.length];
+                boolean stepByMeetingLength = round % 2 == 0;
+                List<Integer> starts = new ArrayList<>();
+                PrimitiveIterator.OfInt proposed = Calendar.proposeMeetingStarts(calendars, meetingLength, grid,
+                        stepByMeetingLength);
+                proposed.forEachRemaining((int start) -> starts.add(start));
+
+                Assertions.assertEquals(BruteForceOracle.meetingStarts(calendars, meetingLength, grid.getMinutes(),
+                        stepByMeetingLength), starts, "round " + round);
+            }
+        }
+
+        @Test
+        void shouldProposeTheSameMeetingsAsSolvingTheAttendeesWithEveryRoom() {
+            Random random = new Random(47);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+                Map<String, Calendar> rooms = new LinkedHashMap<>();
+                for (Calendar room : CalendarGenerator.realisticCalendars(random, 6, PROFILES[round % PROFILES.length])) {
+                    rooms.put("room" + rooms.size(), room);
+                }
+                List<RoomProposal> expected = new ArrayList<>();
+                for (Map.Entry<String, Calendar> room : rooms.entrySet()) {
+                    List<Calendar> withRoom = new ArrayList<>(calendars);
+                    withRoom.add(room.getValue());
+                    for (Period period : BruteForceOracle.proposePossibleMeetings(withRoom, meetingLength)) {
+                        expected.add(new RoomProposal(period, room.getKey()));
+                    }
+                }
+                expected.sort(Comparator.comparing(proposal -> proposal.getPeriod().getStartTime()));
+
+                Assertions.assertEquals(expected.toString(),
+                        new RoomPool(rooms).proposePossibleMeetings(calendars, meetingLength).toString(),
+                        "round " + round);
+            }
+        }
+
+        @Test
+        void shouldProposeTheSameMeetingsOverAHorizonAsForEveryDay() {
+            LocalDate monday = LocalDate.of(2026, 10, 19);
+            Random random = new Random(53);
+            for (int round = 0; round < ROUNDS; round++) {
+                int meetingLength = meetingLength(random);
+                int attendeeCount = 2 + random.nextInt(3);
+                List<SortedMap<LocalDate, Calendar>> attendeeDays = new ArrayList<>();
+                for (int attendee = 0; attendee < attendeeCount; attendee++) {
+                    attendeeDays.add(new TreeMap<>());
+                }
+                List<String> expected = new ArrayList<>();
+                for (int day = 0; day < 5; day++) {
+                    List<Calendar> calendars = CalendarGenerator.realisticCalendars(random, attendeeCount,
+                            PROFILES[(round + day) % PROFILES.length]);
+                    for (int attendee = 0; attendee < attendeeCount; attendee++) {
+                        attendeeDays.get(attendee).put(monday.plusDays(day), calendars.get(attendee));
+                    }
+                    for (Period period : BruteForceOracle.proposePossibleMeetings(calendars, meetingLength)) {
+                        expected.add(monday.plusDays(day) + " " + period);
+                    }
+                }
+                List<HorizonCalendar> horizons = new ArrayList<>();
+                for (SortedMap<LocalDate, Calendar> days : attendeeDays) {
+                    horizons.add(HorizonCalendar.ofDays(days));
+                }
+
+                Assertions.assertEquals(expected.toString(),
+                        HorizonCalendar.proposePossibleMeetings(horizons, meetingLength).toString(), "round " + round);
+            }
+        }
+
+        // the bitmap backend only sees whole 5 minute slots, so it matches the oracle when calendars and
+        // meeting lengths are on that grid, off the grid it may skip periods, see SolverBackend
+        @Test
+        void shouldProposeTheSameMeetingsOnTheBitmapForCalendarsOnTheGrid() {
+            int[] meetingLengths = {5, 30, 45, 60, 90};
+            Random random = new Random(59);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = new ArrayList<>();
+                for (Calendar calendar : attendees(random, round)) {
+                    calendars.add(onTheGrid(calendar));
+                }
+                int meetingLength = meetingLengths[random.nextInt(meetingLengths.length)];
+
+                assertSameProposals(BruteForceOracle.proposePossibleMeetings(calendars, meetingLength),
+                        Calendar.proposePossibleMeetings(calendars, meetingLength, SolverBackend.BITMAP),
+                        "round " + round);
+            }
+        }
+    }
+
+    @Nested
+    class FormatsTest {
+
+        @Test
+        void shouldProposeTheSameMeetingsAfterAJsonRequest() throws IOException {
+            Random random = new Random(31);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+                MeetingRequest request = MeetingRequest.parseJson(
+                        CalendarGenerator.toRequestJson(calendars, meetingLength));
+
+                Assertions.assertEquals(meetingLength, request.getMeetingLength());
+                assertSameProposals(BruteForceOracle.proposePossibleMeetings(calendars, meetingLength),
+                        Calendar.proposePossibleMeetings(request.getCalendars(), meetingLength), "round " + round);
+            }
+        }
+
+        @Test
+        void shouldProposeTheSameMeetingsAfterEncoding() {
+            Random random = new Random(37);
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Calendar> calendars = attendees(random, round);
+                int meetingLength = meetingLength(random);
+                List<Calendar> decoded = new ArrayList<>();
+                for (Calendar calendar : calendars) {
+                    decoded.add(CalendarCodec.decode(CalendarCodec.encode(calendar)));
+                }
+
+                assertSameProposals(BruteForceOracle.proposePossibleMeetings(calendars, meetingLength),
+                        Calendar.proposePossibleMeetings(decoded, meetingLength), "round " + round);
+            }
+        }
+    }
+}
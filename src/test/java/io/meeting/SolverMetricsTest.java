@@ -0,0 +1,69 @@
+package io.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SolverMetricsTest {
+
+    @Nested
+    class MetricsHistogramTest {
+
+        @Test
+        void shouldReportPercentilesAsBucketBounds() {
+            MetricsHistogram histogram = new MetricsHistogram();
+            for (int value = 1; value <= 100; value++) {
+                histogram.record(value);
+            }
+
+            Assertions.assertEquals(100, histogram.getCount());
+            Assertions.assertEquals(50.5, histogram.getMean());
+            Assertions.assertEquals(63, histogram.getPercentile(0.5));
+            Assertions.assertEquals(100, histogram.getPercentile(0.99));
+            Assertions.assertEquals(100, histogram.getMax());
+        }
+
+        @Test
+        void shouldPutValuesIntoPowerOfTwoBuckets() {
+            MetricsHistogram histogram = new MetricsHistogram();
+            histogram.record(0);
+            histogram.record(1);
+            histogram.record(3);
+            histogram.record(4);
+
+            long[] buckets = histogram.getBuckets();
+
+            Assertions.assertEquals(1, buckets[0]);
+            Assertions.assertEquals(1, buckets[1]);
+            Assertions.assertEquals(1, buckets[2]);
+            Assertions.assertEquals(1, buckets[3]);
+        }
+    }
+
+    @Nested
+    class MXBeanViewTest {
+
+        @Test
+        void shouldReportEveryPhaseByName() {
+            SolverMetrics metrics = new SolverMetrics();
+            metrics.recordPhase(SolverMetrics.Phase.INTERSECT, 1000);
+            metrics.recordPhase(SolverMetrics.Phase.INTERSECT, 3000);
+
+            Assertions.assertEquals(2L, metrics.getPhaseCounts().get("INTERSECT"));
+            Assertions.assertEquals(0L, metrics.getPhaseCounts().get("PARSE"));
+            Assertions.assertEquals(2000.0, metrics.getPhaseMeanNanos().get("INTERSECT"));
+            Assertions.assertEquals(3000L, metrics.getPhaseMaxNanos().get("INTERSECT"));
+        }
+
+        @Test
+        void shouldForgetEverythingOnReset() {
+            SolverMetrics metrics = new SolverMetrics();
+            metrics.recordPhase(SolverMetrics.Phase.PARSE, 1000);
+
+            metrics.reset();
+
+            Assertions.assertEquals(0L, metrics.getPhaseCounts().get("PARSE"));
+            Assertions.assertEquals(0, metrics.getFailedParses());
+        }
+    }
+}